@@ -0,0 +1,168 @@
+/**
+ * Package bricker.benchmarks contains JMH benchmarks for the hot paths of the game.
+ */
+package bricker.benchmarks;
+
+import bricker.assets.AssetRegistry;
+import bricker.brick_strategies.BrickedStrategyFactory;
+import bricker.brick_strategies.CollisionStrategy;
+import bricker.brick_strategies.StrategyCodes;
+import bricker.events.GameEvents;
+import bricker.gameobjects.Ball;
+import bricker.gameobjects.BrickField;
+import bricker.gameobjects.OffScreenCuller;
+import bricker.simulation.HeadlessImageReader;
+import bricker.simulation.HeadlessInputListener;
+import bricker.simulation.HeadlessSoundReader;
+import bricker.simulation.HeadlessWindowController;
+import bricker.ui.Life;
+import bricker.util.GameRandom;
+import danogl.GameManager;
+import danogl.collisions.GameObjectCollection;
+import danogl.gui.ImageReader;
+import danogl.gui.SoundReader;
+import danogl.util.Vector2;
+
+/**
+ * The BenchmarkWorld class is a headless game manager that exposes its game objects,
+ * ball, life and event bus so benchmarks can build strategies and game objects
+ * exactly as BrickerGameManager does, without a window, image or sound.
+ * @author Shay Abbou & Shaked Hartal
+ */
+public class BenchmarkWorld extends GameManager {
+    /** The dimensions of the simulated game window. */
+    public static final Vector2 WINDOW_DIMENSIONS = new Vector2(700, 500);
+    /** The width of the user paddle. */
+    public static final int PADDLE_WIDTH = 100;
+    /** The height of the user paddle. */
+    public static final int PADDLE_HEIGHT = 15;
+    /** The diameter of the ball. */
+    public static final int BALL_RADIUS = 20;
+    /** The speed of the ball on each axis. */
+    public static final float BALL_SPEED = 250;
+    /** The dimensions of a heart. */
+    public static final Vector2 HEART_DIMENSIONS = new Vector2(20, 15);
+    /** The dimensions of a brick of the default 8 bricks wide wall. */
+    public static final Vector2 BRICK_DIMENSIONS = new Vector2(85, 15);
+    /** The number of bricks of the single row brick field of the world. */
+    public static final int FIELD_BRICKS = 1000;
+    private static final long SEED = 42;
+    private static final int START_LIFE = 3;
+    private static final int MAX_LIFE = 4;
+    private final HeadlessWindowController windowController;
+    private final HeadlessInputListener inputListener;
+    private final ImageReader imageReader;
+    private final SoundReader soundReader;
+    private final GameEvents events = new GameEvents();
+    private AssetRegistry assets;
+    private Ball ball;
+    private Life life;
+    private BrickField brickField;
+    private OffScreenCuller culler;
+
+    /**
+     * Constructs a BenchmarkWorld. Call initialize before using it.
+     */
+    public BenchmarkWorld() {
+        super("Bricker Benchmark", WINDOW_DIMENSIONS);
+        windowController = new HeadlessWindowController(WINDOW_DIMENSIONS, false);
+        inputListener = new HeadlessInputListener();
+        imageReader = new HeadlessImageReader(windowController.asWindowController());
+        soundReader = new HeadlessSoundReader(windowController.asWindowController());
+    }
+
+    /**
+     * Initializes the world with a ball in the middle of the window, a life display, an
+     * empty single row brick field and an off screen culler.
+     */
+    public void initialize() {
+        initializeGame(imageReader, soundReader, inputListener.asInputListener(),
+                windowController.asWindowController());
+        assets = new AssetRegistry(imageReader, soundReader);
+        ball = new Ball(Vector2.ZERO, new Vector2(BALL_RADIUS, BALL_RADIUS), null, null);
+        ball.setCenter(WINDOW_DIMENSIONS.mult(0.5f));
+        ball.setVelocity(new Vector2(BALL_SPEED, BALL_SPEED));
+        gameObjects().addGameObject(ball);
+        life = new Life(Vector2.ZERO, HEART_DIMENSIONS, null, gameObjects(),
+                START_LIFE, MAX_LIFE);
+        events.subscribe(GameEvents.LIFE_GAINED, life);
+        brickField = new BrickField(Vector2.ZERO, BRICK_DIMENSIONS, 1, 1, FIELD_BRICKS, null,
+                null);
+        culler = new OffScreenCuller(gameObjects(), WINDOW_DIMENSIONS);
+    }
+
+    /**
+     * Gets the collection of game objects of the world.
+     * @return The game objects.
+     */
+    public GameObjectCollection objects() {
+        return gameObjects();
+    }
+
+    /**
+     * Gets the main ball of the world.
+     * @return The ball.
+     */
+    public Ball getBall() {
+        return ball;
+    }
+
+    /**
+     * Gets the single row brick field of the world, whose bricks the strategies of the
+     * world destroy.
+     * @return The brick field.
+     */
+    public BrickField getBrickField() {
+        return brickField;
+    }
+
+    /**
+     * Gets the stub input listener of the world.
+     * @return The stub input listener.
+     */
+    public HeadlessInputListener getInputListener() {
+        return inputListener;
+    }
+
+    /**
+     * Creates a strategy factory wired as BrickerGameManager wires it, with a fixed seed.
+     * @return A new strategy factory.
+     */
+    public BrickedStrategyFactory newStrategyFactory() {
+        return new BrickedStrategyFactory(gameObjects(), events, ball.getDimensions(),
+                assets, BALL_SPEED, WINDOW_DIMENSIONS, PADDLE_WIDTH,
+                PADDLE_HEIGHT, inputListener.asInputListener(), this, ball,
+                HEART_DIMENSIONS, brickField, culler, new GameRandom(SEED));
+    }
+
+    /**
+     * Creates the collision strategy with the given name, through a new strategy factory.
+     * @param name One of basic, puck, paddle, camera, heart, double and nestedDouble.
+     * @return The collision strategy.
+     */
+    public CollisionStrategy newStrategy(String name) {
+        return newStrategyFactory().getStrategy(strategyCode(name));
+    }
+
+    private static int strategyCode(String name) {
+        switch (name) {
+            case "basic":
+                return StrategyCodes.BASIC;
+            case "puck":
+                return StrategyCodes.of(StrategyCodes.PUCK);
+            case "paddle":
+                return StrategyCodes.of(StrategyCodes.PADDLE);
+            case "camera":
+                return StrategyCodes.of(StrategyCodes.CAMERA);
+            case "heart":
+                return StrategyCodes.of(StrategyCodes.HEART);
+            case "double":
+                return StrategyCodes.of(StrategyCodes.PUCK, StrategyCodes.HEART);
+            case "nestedDouble":
+                return StrategyCodes.of(StrategyCodes.PUCK, StrategyCodes.CAMERA,
+                        StrategyCodes.PADDLE);
+            default:
+                throw new IllegalArgumentException("Unknown strategy: " + name);
+        }
+    }
+}
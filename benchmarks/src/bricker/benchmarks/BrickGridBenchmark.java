@@ -0,0 +1,64 @@
+/**
+ * Package bricker.benchmarks contains JMH benchmarks for the hot paths of the game.
+ */
+package bricker.benchmarks;
+
+import bricker.main.BrickerGameManager;
+import bricker.simulation.HeadlessSimulation;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Measures the time it takes BrickerGameManager to build its brick grid, from the default
+ * 8x7 wall up to a 1000x1000 wall. The grid is built by initializeGame, which also creates
+ * the few other game objects of a level.
+ * @author Shay Abbou & Shaked Hartal
+ */
+@State(Scope.Thread)
+@BenchmarkMode(Mode.SingleShotTime)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 3)
+@Measurement(iterations = 10)
+@Fork(value = 1, jvmArgsAppend = "-Xmx4g")
+public class BrickGridBenchmark {
+    private static final float DELTA_TIME = 1f / 60;
+    private static final long SEED = 42;
+
+    /** The grid size, as bricks in row x rows of bricks. */
+    @Param({"8x7", "100x100", "500x500", "1000x1000"})
+    public String grid;
+    private HeadlessSimulation simulation;
+
+    /**
+     * Creates a fresh headless game, so every measurement builds the grid from scratch.
+     */
+    @Setup(Level.Invocation)
+    public void setUp() {
+        String[] size = grid.split("x");
+        int bricksInRow = Integer.parseInt(size[0]);
+        int rowsOfBricks = Integer.parseInt(size[1]);
+        simulation = new HeadlessSimulation(BenchmarkWorld.WINDOW_DIMENSIONS, rowsOfBricks,
+                bricksInRow, DELTA_TIME, SEED);
+    }
+
+    /**
+     * Initializes the game, building its brick grid.
+     * @return The initialized game manager.
+     */
+    @Benchmark
+    public BrickerGameManager createBricks() {
+        simulation.initialize();
+        return simulation.getGameManager();
+    }
+}
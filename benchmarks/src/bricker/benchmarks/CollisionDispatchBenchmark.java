@@ -0,0 +1,66 @@
+/**
+ * Package bricker.benchmarks contains JMH benchmarks for the hot paths of the game.
+ */
+package bricker.benchmarks;
+
+import bricker.brick_strategies.CollisionStrategy;
+import bricker.gameobjects.Ball;
+import bricker.gameobjects.BrickField;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OperationsPerInvocation;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Measures the cost of a ball hitting a brick, from BrickField.hit through Brick.hit and
+ * CollisionStrategy.onCollision, for every strategy. Each invocation hits a fresh row
+ * of bricks in a fresh world, so objects spawned by the strategies do not pile up.
+ * @author Shay Abbou & Shaked Hartal
+ */
+@State(Scope.Thread)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Fork(1)
+public class CollisionDispatchBenchmark {
+    private static final int HITS_PER_INVOCATION = BenchmarkWorld.FIELD_BRICKS;
+
+    /** The name of the strategy of the hit bricks. */
+    @Param({"basic", "puck", "paddle", "camera", "heart", "double", "nestedDouble"})
+    public String strategy;
+    private BrickField brickField;
+    private Ball ball;
+
+    /**
+     * Builds a fresh world whose brick field is filled with the measured strategy.
+     */
+    @Setup(Level.Invocation)
+    public void setUp() {
+        BenchmarkWorld world = new BenchmarkWorld();
+        world.initialize();
+        ball = world.getBall();
+        CollisionStrategy collisionStrategy = world.newStrategy(strategy);
+        brickField = world.getBrickField();
+        for (int i = 0; i < HITS_PER_INVOCATION; i++) {
+            brickField.add(0, i, collisionStrategy);
+        }
+    }
+
+    /**
+     * Hits every brick of the field once with the ball.
+     */
+    @Benchmark
+    @OperationsPerInvocation(HITS_PER_INVOCATION)
+    public void brickHit() {
+        for (int i = 0; i < HITS_PER_INVOCATION; i++) {
+            brickField.hit(i, ball);
+        }
+    }
+}
@@ -0,0 +1,59 @@
+/**
+ * Package bricker.benchmarks contains JMH benchmarks for the hot paths of the game.
+ */
+package bricker.benchmarks;
+
+import bricker.gameobjects.Ball;
+import danogl.GameObject;
+import danogl.collisions.Collision;
+import danogl.util.Vector2;
+
+/**
+ * The CollisionProbe class is a ball that keeps the first collision the engine reports to
+ * it, so benchmarks can replay Ball.onCollisionEnter with a genuine Collision.
+ * @author Shay Abbou & Shaked Hartal
+ */
+class CollisionProbe extends Ball {
+    private Collision capturedCollision;
+
+    /**
+     * Constructs a silent, invisible CollisionProbe.
+     * @param topLeftCorner The position of the probe, in window coordinates (pixels).
+     * @param dimensions    The width and height of the probe in window coordinates.
+     */
+    CollisionProbe(Vector2 topLeftCorner, Vector2 dimensions) {
+        super(topLeftCorner, dimensions, null, null);
+    }
+
+    /**
+     * Lets the engine collide the probe with anything, including the paddles and borders
+     * whose collisions with balls are otherwise swept by the game.
+     * @param other The other game object.
+     * @return True.
+     */
+    @Override
+    public boolean shouldCollideWith(GameObject other) {
+        return true;
+    }
+
+    /**
+     * Keeps the first reported collision, then behaves as a ball.
+     * @param other     The other game object involved in the collision.
+     * @param collision The collision information.
+     */
+    @Override
+    public void onCollisionEnter(GameObject other, Collision collision) {
+        if (capturedCollision == null) {
+            capturedCollision = collision;
+        }
+        super.onCollisionEnter(other, collision);
+    }
+
+    /**
+     * Gets the first collision reported to the probe.
+     * @return The collision, or null if the probe has not collided yet.
+     */
+    Collision getCapturedCollision() {
+        return capturedCollision;
+    }
+}
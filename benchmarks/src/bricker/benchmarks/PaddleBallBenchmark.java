@@ -0,0 +1,85 @@
+/**
+ * Package bricker.benchmarks contains JMH benchmarks for the hot paths of the game.
+ */
+package bricker.benchmarks;
+
+import bricker.gameobjects.Ball;
+import bricker.gameobjects.Paddle;
+import danogl.collisions.Collision;
+import danogl.util.Vector2;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import java.awt.event.KeyEvent;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Measures the per-call cost of Paddle.update and Ball.onCollisionEnter. Run with
+ * "-prof gc" to see the bytes allocated per call.
+ * @author Shay Abbou & Shaked Hartal
+ */
+@State(Scope.Thread)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Fork(1)
+public class PaddleBallBenchmark {
+    private static final float DELTA_TIME = 1f / 60;
+    private static final int MAX_PROBE_FRAMES = 10;
+    private Paddle paddle;
+    private Ball ball;
+    private Collision collision;
+
+    /**
+     * Builds a paddle with the right arrow held down, and obtains a genuine ball-paddle
+     * collision by letting the engine collide a probe with the paddle.
+     */
+    @Setup
+    public void setUp() {
+        BenchmarkWorld world = new BenchmarkWorld();
+        world.initialize();
+        world.getInputListener().setKeyPressed(KeyEvent.VK_RIGHT, true);
+        paddle = new Paddle(Vector2.ZERO,
+                new Vector2(BenchmarkWorld.PADDLE_WIDTH, BenchmarkWorld.PADDLE_HEIGHT), null,
+                world.getInputListener().asInputListener(), BenchmarkWorld.WINDOW_DIMENSIONS);
+        paddle.setCenter(BenchmarkWorld.WINDOW_DIMENSIONS.mult(0.5f));
+        world.objects().addGameObject(paddle);
+        CollisionProbe probe = new CollisionProbe(Vector2.ZERO,
+                new Vector2(BenchmarkWorld.BALL_RADIUS, BenchmarkWorld.BALL_RADIUS));
+        probe.setCenter(paddle.getCenter());
+        probe.setVelocity(Vector2.DOWN.mult(BenchmarkWorld.BALL_SPEED));
+        world.objects().addGameObject(probe);
+        for (int i = 0; i < MAX_PROBE_FRAMES && probe.getCapturedCollision() == null; i++) {
+            world.update(DELTA_TIME);
+        }
+        collision = probe.getCapturedCollision();
+        if (collision == null) {
+            throw new IllegalStateException("The probe did not collide with the paddle");
+        }
+        ball = world.getBall();
+    }
+
+    /**
+     * Updates the paddle once.
+     * @return The paddle velocity after the update.
+     */
+    @Benchmark
+    public Vector2 paddleUpdate() {
+        paddle.update(DELTA_TIME);
+        return paddle.getVelocity();
+    }
+
+    /**
+     * Bounces the ball off the paddle once.
+     * @return The ball velocity after the bounce.
+     */
+    @Benchmark
+    public Vector2 ballCollision() {
+        ball.onCollisionEnter(paddle, collision);
+        return ball.getVelocity();
+    }
+}
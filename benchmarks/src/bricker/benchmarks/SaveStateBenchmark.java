@@ -0,0 +1,111 @@
+/**
+ * Package bricker.benchmarks contains JMH benchmarks for the hot paths of the game.
+ */
+package bricker.benchmarks;
+
+import bricker.main.BrickerGameManager;
+import bricker.simulation.HeadlessSimulation;
+import org.openjdk.jmh.annotations.AuxCounters;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.DataInputStream;
+import java.io.DataOutputStream;
+import java.io.IOException;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Measures the time it takes BrickerGameManager to save the complete state of a game played
+ * for a while, and to restore it into a running game, from the default 8x7 wall up to a
+ * 1000x1000 wall. The size of the save state is reported as an extra counter, so the
+ * throughput in bytes a second follows from the time of an operation.
+ * @author Shay Abbou & Shaked Hartal
+ */
+@State(Scope.Thread)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(value = 1, jvmArgsAppend = "-Xmx4g")
+public class SaveStateBenchmark {
+    private static final float DELTA_TIME = 1f / 60;
+    private static final long SEED = 42;
+    private static final int FRAMES_BEFORE_SAVE = 3000;
+
+    /** The grid size, as bricks in row x rows of bricks. */
+    @Param({"8x7", "100x100", "1000x1000"})
+    public String grid;
+    private BrickerGameManager gameManager;
+    private ByteArrayOutputStream savedBytes;
+    private byte[] saved;
+
+    /**
+     * Plays a headless game for a while, so there are broken bricks and moving objects to
+     * save, and saves it once for the restore benchmark.
+     * @throws IOException Never, the save state is kept in memory.
+     */
+    @Setup(Level.Trial)
+    public void setUp() throws IOException {
+        String[] size = grid.split("x");
+        int bricksInRow = Integer.parseInt(size[0]);
+        int rowsOfBricks = Integer.parseInt(size[1]);
+        HeadlessSimulation simulation = new HeadlessSimulation(
+                BenchmarkWorld.WINDOW_DIMENSIONS, rowsOfBricks, bricksInRow, DELTA_TIME, SEED);
+        simulation.initialize();
+        for (int i = 0; i < FRAMES_BEFORE_SAVE; i++) {
+            simulation.step();
+        }
+        gameManager = simulation.getGameManager();
+        savedBytes = new ByteArrayOutputStream();
+        gameManager.save(new DataOutputStream(savedBytes));
+        saved = savedBytes.toByteArray();
+    }
+
+    /**
+     * The size of the save state, reported once per operation.
+     */
+    @State(Scope.Thread)
+    @AuxCounters(AuxCounters.Type.EVENTS)
+    public static class SaveStateSize {
+        /** The number of bytes saved or restored. */
+        public long bytes;
+    }
+
+    /**
+     * Saves the game into memory.
+     * @param size The counter of saved bytes.
+     * @return The size of the save state.
+     * @throws IOException Never, the save state is kept in memory.
+     */
+    @Benchmark
+    public int save(SaveStateSize size) throws IOException {
+        savedBytes.reset();
+        gameManager.save(new DataOutputStream(savedBytes));
+        size.bytes += savedBytes.size();
+        return savedBytes.size();
+    }
+
+    /**
+     * Restores the saved game into the running game, rebuilding its bricks and objects.
+     * @param size The counter of restored bytes.
+     * @return The game manager.
+     * @throws IOException Never, the save state is kept in memory.
+     */
+    @Benchmark
+    public BrickerGameManager restore(SaveStateSize size) throws IOException {
+        gameManager.restore(new DataInputStream(new ByteArrayInputStream(saved)));
+        size.bytes += saved.length;
+        return gameManager;
+    }
+}
@@ -0,0 +1,48 @@
+/**
+ * Package bricker.benchmarks contains JMH benchmarks for the hot paths of the game.
+ */
+package bricker.benchmarks;
+
+import bricker.brick_strategies.BrickedStrategyFactory;
+import bricker.brick_strategies.CollisionStrategy;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Measures the throughput of BrickedStrategyFactory.getStrategy, which is called once for
+ * every brick of a level.
+ * @author Shay Abbou & Shaked Hartal
+ */
+@State(Scope.Thread)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Fork(1)
+public class StrategyFactoryBenchmark {
+    private BrickedStrategyFactory factory;
+
+    /**
+     * Builds the strategy factory in a headless world.
+     */
+    @Setup
+    public void setUp() {
+        BenchmarkWorld world = new BenchmarkWorld();
+        world.initialize();
+        factory = world.newStrategyFactory();
+    }
+
+    /**
+     * Draws a single random strategy.
+     * @return The drawn strategy.
+     */
+    @Benchmark
+    public CollisionStrategy getStrategy() {
+        return factory.getStrategy();
+    }
+}
@@ -0,0 +1,275 @@
+/**
+ * Package bricker.assets contains classes for loading and sharing the game assets.
+ */
+package bricker.assets;
+
+import danogl.gui.ImageReader;
+import danogl.gui.SoundReader;
+import danogl.gui.rendering.Renderable;
+import danogl.util.Vector2;
+import java.io.File;
+import java.io.IOException;
+import java.util.Iterator;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.concurrent.Callable;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import javax.imageio.ImageIO;
+import javax.imageio.stream.ImageInputStream;
+import javax.sound.sampled.AudioFileFormat;
+import javax.sound.sampled.AudioSystem;
+import javax.sound.sampled.UnsupportedAudioFileException;
+
+/**
+ * The AssetRegistry class loads every image and sound of the game once, at startup, and
+ * hands out the shared instances, so game objects and collision strategies never read
+ * assets from the disk while the game runs. The assets are decoded in parallel, one task
+ * per asset. It also reports how long each asset took to load, how much memory it takes
+ * once decoded, and how long loading all of them took.
+ * Once the game knows the size every image is drawn at, the images can be packed into a
+ * SpriteAtlas, scaled to those sizes, and the images handed out are then its sprites.
+ * Sounds are decoded to PCM once, and played through a SoundMixer, as cues whose clips are
+ * opened from the decoded samples.
+ * @author Shay Abbou & Shaked Hartal
+ */
+public class AssetRegistry {
+    /** The image of the main ball. */
+    public static final String BALL_IMAGE = "assets/ball.png";
+    /** The image of the pucks. */
+    public static final String PUCK_IMAGE = "assets/mockBall.png";
+    /** The image of the paddles. */
+    public static final String PADDLE_IMAGE = "assets/paddle.png";
+    /** The image of the hearts. */
+    public static final String HEART_IMAGE = "assets/heart.png";
+    /** The image of the bricks. */
+    public static final String BRICK_IMAGE = "assets/brick.png";
+    /** The image of the background. */
+    public static final String BACKGROUND_IMAGE = "assets/DARK_BG2_small.jpeg";
+    /** The sound of a ball collision. */
+    public static final String COLLISION_SOUND = "assets/blop.wav";
+    private static final String[] TRANSPARENT_IMAGES =
+            {BALL_IMAGE, PUCK_IMAGE, PADDLE_IMAGE, HEART_IMAGE, BRICK_IMAGE};
+    private static final String[] OPAQUE_IMAGES = {BACKGROUND_IMAGE};
+    private static final String[] SOUNDS = {COLLISION_SOUND};
+    private static final int BYTES_PER_PIXEL = 4;
+    private static final double NANOS_IN_MILLI = 1e6;
+    private final Map<String, Renderable> images = new LinkedHashMap<>();
+    private final Map<String, PcmSound> sounds = new LinkedHashMap<>();
+    private final Map<String, Long> loadNanos = new LinkedHashMap<>();
+    private final long totalLoadNanos;
+    private SpriteAtlas atlas;
+    private SoundMixer mixer;
+    private long atlasNanos;
+
+    /**
+     * Constructs an AssetRegistry, loading every asset of the game in parallel.
+     * @param imageReader The image reader for loading images.
+     * @param soundReader The sound reader of the game. The sounds are decoded by the
+     *                    registry itself, unless the reader is a SilentSoundReader, in which
+     *                    case there is no audio output and no sound is decoded.
+     * @throws IllegalStateException If the loading thread is interrupted, or an asset
+     *                               fails to load with a checked exception.
+     */
+    public AssetRegistry(ImageReader imageReader, SoundReader soundReader) {
+        long start = System.nanoTime();
+        int assetCount = TRANSPARENT_IMAGES.length + OPAQUE_IMAGES.length + SOUNDS.length;
+        ExecutorService executor = Executors.newFixedThreadPool(
+                Math.min(assetCount, Runtime.getRuntime().availableProcessors()));
+        Map<String, Long> taskNanos = new ConcurrentHashMap<>();
+        try {
+            Map<String, Future<Renderable>> imageTasks = new LinkedHashMap<>();
+            for (String path : TRANSPARENT_IMAGES) {
+                imageTasks.put(path, executor.submit(
+                        timed(path, taskNanos, () -> imageReader.readImage(path, true))));
+            }
+            for (String path : OPAQUE_IMAGES) {
+                imageTasks.put(path, executor.submit(
+                        timed(path, taskNanos, () -> imageReader.readImage(path, false))));
+            }
+            boolean silent = soundReader instanceof SilentSoundReader;
+            Map<String, Future<PcmSound>> soundTasks = new LinkedHashMap<>();
+            for (String path : SOUNDS) {
+                soundTasks.put(path, executor.submit(timed(path, taskNanos,
+                        () -> silent ? null : PcmSound.decode(path))));
+            }
+            for (Map.Entry<String, Future<Renderable>> task : imageTasks.entrySet()) {
+                images.put(task.getKey(), await(task.getValue()));
+                loadNanos.put(task.getKey(), taskNanos.get(task.getKey()));
+            }
+            for (Map.Entry<String, Future<PcmSound>> task : soundTasks.entrySet()) {
+                sounds.put(task.getKey(), await(task.getValue()));
+                loadNanos.put(task.getKey(), taskNanos.get(task.getKey()));
+            }
+        } finally {
+            executor.shutdown();
+        }
+        totalLoadNanos = System.nanoTime() - start;
+    }
+
+    /**
+     * Gets the time it took to load every asset, in parallel.
+     * @return The wall time of the loading, in nanoseconds.
+     */
+    public long getTotalLoadNanos() {
+        return totalLoadNanos;
+    }
+
+    /**
+     * Packs the preloaded images into a sprite atlas, each scaled to the size it is drawn
+     * at, replacing any previous atlas.
+     * @param sizes The size each image is drawn at, by path. Images without a size are
+     *              not packed.
+     */
+    public void packSprites(Map<String, Vector2> sizes) {
+        long start = System.nanoTime();
+        atlas = new SpriteAtlas(images, sizes);
+        atlasNanos = System.nanoTime() - start;
+    }
+
+    /**
+     * Gets the shared instance of a preloaded image: its sprite if it was packed into the
+     * sprite atlas, or the image as it was read otherwise.
+     * @param path The path of the image, one of the image constants of this class.
+     * @return The image.
+     * @throws IllegalArgumentException If the image was not preloaded.
+     */
+    public Renderable image(String path) {
+        if (!images.containsKey(path)) {
+            throw new IllegalArgumentException("Image was not preloaded: " + path);
+        }
+        if (atlas != null) {
+            Renderable sprite = atlas.sprite(path);
+            if (sprite != null) {
+                return sprite;
+            }
+        }
+        return images.get(path);
+    }
+
+    /**
+     * Gets the mixer cue of a preloaded sound, so it is played with a voice budget and
+     * coalesced with the other plays of its frame. Its voices are opened from the samples
+     * decoded while the assets were loaded.
+     * @param path The path of the sound, one of the sound constants of this class.
+     * @return The cue, or null if the sound was not decoded, as there is no audio output
+     *         in a headless game.
+     * @throws IllegalArgumentException If the sound was not preloaded.
+     */
+    public SoundCue cue(String path) {
+        if (!sounds.containsKey(path)) {
+            throw new IllegalArgumentException("Sound was not preloaded: " + path);
+        }
+        PcmSound sound = sounds.get(path);
+        if (sound == null) {
+            return null;
+        }
+        if (mixer == null) {
+            mixer = new SoundMixer();
+        }
+        return mixer.cue(path, sound);
+    }
+
+    /**
+     * Plays the sound cues requested since the last call, once per frame.
+     */
+    public void flushSounds() {
+        if (mixer != null) {
+            mixer.flush();
+        }
+    }
+
+    /**
+     * Builds a report of the load time and decoded memory footprint of every asset.
+     * The footprint is read from the asset file headers, without decoding them again.
+     * The sprite atlas, if any image was packed, is reported as one more asset, and the wall
+     * time of the parallel loading is reported last.
+     * @return The report, one line per asset.
+     */
+    public String report() {
+        StringBuilder report = new StringBuilder();
+        long totalNanos = 0;
+        long totalBytes = 0;
+        for (Map.Entry<String, Long> entry : loadNanos.entrySet()) {
+            String path = entry.getKey();
+            long bytes = images.containsKey(path) ? imageFootprint(path) : soundFootprint(path);
+            totalNanos += entry.getValue();
+            totalBytes += Math.max(bytes, 0);
+            report.append(String.format("%-30s %8.2f ms %10s%n", path,
+                    entry.getValue() / NANOS_IN_MILLI, formatBytes(bytes)));
+        }
+        if (atlas != null && atlas.getPixelCount() > 0) {
+            long bytes = atlas.getPixelCount() * BYTES_PER_PIXEL;
+            totalNanos += atlasNanos;
+            totalBytes += bytes;
+            report.append(String.format("%-30s %8.2f ms %10s%n", "sprite atlas",
+                    atlasNanos / NANOS_IN_MILLI, formatBytes(bytes)));
+        }
+        report.append(String.format("%-30s %8.2f ms %10s%n", "total",
+                totalNanos / NANOS_IN_MILLI, formatBytes(totalBytes)));
+        report.append(String.format("%-30s %8.2f ms", "loaded in parallel",
+                totalLoadNanos / NANOS_IN_MILLI));
+        return report.toString();
+    }
+
+    private static <T> Callable<T> timed(String path, Map<String, Long> taskNanos,
+                                         Callable<T> load) {
+        return () -> {
+            long start = System.nanoTime();
+            T asset = load.call();
+            taskNanos.put(path, System.nanoTime() - start);
+            return asset;
+        };
+    }
+
+    private static <T> T await(Future<T> task) {
+        try {
+            return task.get();
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new IllegalStateException("Interrupted while loading assets", e);
+        } catch (ExecutionException e) {
+            if (e.getCause() instanceof RuntimeException) {
+                throw (RuntimeException) e.getCause();
+            }
+            throw new IllegalStateException("Failed to load assets", e.getCause());
+        }
+    }
+
+    private static String formatBytes(long bytes) {
+        return bytes < 0 ? "unknown" : String.format("%d KB", bytes / 1024);
+    }
+
+    private static long imageFootprint(String path) {
+        try (ImageInputStream input = ImageIO.createImageInputStream(new File(path))) {
+            if (input == null) {
+                return -1;
+            }
+            Iterator<javax.imageio.ImageReader> readers = ImageIO.getImageReaders(input);
+            if (!readers.hasNext()) {
+                return -1;
+            }
+            javax.imageio.ImageReader reader = readers.next();
+            try {
+                reader.setInput(input);
+                return (long) reader.getWidth(0) * reader.getHeight(0) * BYTES_PER_PIXEL;
+            } finally {
+                reader.dispose();
+            }
+        } catch (IOException e) {
+            return -1;
+        }
+    }
+
+    private static long soundFootprint(String path) {
+        try {
+            AudioFileFormat format = AudioSystem.getAudioFileFormat(new File(path));
+            return (long) format.getFrameLength() * format.getFormat().getFrameSize();
+        } catch (IOException | UnsupportedAudioFileException e) {
+            return -1;
+        }
+    }
+}
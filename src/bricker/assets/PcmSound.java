@@ -0,0 +1,68 @@
+/**
+ * Package bricker.assets contains classes for loading and sharing the game assets.
+ */
+package bricker.assets;
+
+import java.io.File;
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import javax.sound.sampled.AudioFormat;
+import javax.sound.sampled.AudioInputStream;
+import javax.sound.sampled.AudioSystem;
+import javax.sound.sampled.UnsupportedAudioFileException;
+
+/**
+ * The PcmSound class is a sound file decoded to signed PCM samples, ready to be opened
+ * into clips without reading the file again.
+ * @author Shay Abbou & Shaked Hartal
+ */
+final class PcmSound {
+    private final AudioFormat format;
+    private final byte[] samples;
+
+    private PcmSound(AudioFormat format, byte[] samples) {
+        this.format = format;
+        this.samples = samples;
+    }
+
+    /**
+     * Reads a sound file and decodes it to signed PCM.
+     * @param path The path of the sound file.
+     * @return The decoded sound.
+     * @throws UncheckedIOException If the file cannot be read.
+     * @throws IllegalArgumentException If the file is not a supported audio file.
+     */
+    static PcmSound decode(String path) {
+        try (AudioInputStream input = AudioSystem.getAudioInputStream(new File(path))) {
+            AudioFormat format = input.getFormat();
+            if (format.getEncoding() == AudioFormat.Encoding.PCM_SIGNED) {
+                return new PcmSound(format, input.readAllBytes());
+            }
+            format = new AudioFormat(format.getSampleRate(), 16, format.getChannels(),
+                    true, false);
+            try (AudioInputStream decoded = AudioSystem.getAudioInputStream(format, input)) {
+                return new PcmSound(format, decoded.readAllBytes());
+            }
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        } catch (UnsupportedAudioFileException e) {
+            throw new IllegalArgumentException("Not a supported audio file: " + path, e);
+        }
+    }
+
+    /**
+     * Gets the format of the samples.
+     * @return The audio format.
+     */
+    AudioFormat getFormat() {
+        return format;
+    }
+
+    /**
+     * Gets the samples, which must not be modified.
+     * @return The PCM bytes of the whole sound.
+     */
+    byte[] getSamples() {
+        return samples;
+    }
+}
@@ -0,0 +1,12 @@
+/**
+ * Package bricker.assets contains classes for loading and sharing the game assets.
+ */
+package bricker.assets;
+
+/**
+ * The SilentSoundReader interface marks a SoundReader of a game without audio output.
+ * An AssetRegistry given such a reader decodes no sound, and hands out no sound cues.
+ * @author Shay Abbou & Shaked Hartal
+ */
+public interface SilentSoundReader {
+}
@@ -0,0 +1,27 @@
+/**
+ * Package bricker.assets contains classes for loading and sharing the game assets.
+ */
+package bricker.assets;
+
+/**
+ * The SoundCue class is a sound of a SoundMixer, as handed to the game objects that play
+ * it. Playing a cue only counts a request for the current frame, so it returns at once
+ * however many times it is played.
+ * @author Shay Abbou & Shaked Hartal
+ */
+public final class SoundCue {
+    private final SoundMixer mixer;
+    private final int id;
+
+    SoundCue(SoundMixer mixer, int id) {
+        this.mixer = mixer;
+        this.id = id;
+    }
+
+    /**
+     * Requests the sound to be played at the end of the current frame.
+     */
+    public void play() {
+        mixer.request(id);
+    }
+}
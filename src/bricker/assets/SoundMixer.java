@@ -0,0 +1,199 @@
+/**
+ * Package bricker.assets contains classes for loading and sharing the game assets.
+ */
+package bricker.assets;
+
+import java.util.Arrays;
+import java.util.HashMap;
+import java.util.Map;
+import javax.sound.sampled.AudioSystem;
+import javax.sound.sampled.Clip;
+import javax.sound.sampled.FloatControl;
+import javax.sound.sampled.LineUnavailableException;
+
+/**
+ * The SoundMixer class plays the sounds of the game with a fixed budget of voices.
+ * Every sound, decoded to PCM once by the AssetRegistry, is opened into a few clips that
+ * are replayed, one clip per voice. The requests for a sound during a frame are counted,
+ * and coalesced into a single play when the frame is flushed, louder the more requests
+ * there were; a sound whose voices are all playing drops the play. The clips are started
+ * by a daemon thread of the mixer, so requesting and flushing sounds never wait for the
+ * audio line.
+ * A system without audio output gets sounds with no voices, which are never heard.
+ * @author Shay Abbou & Shaked Hartal
+ */
+public class SoundMixer {
+    /** The default number of voices of every sound. */
+    public static final int DEFAULT_VOICES = 4;
+    private static final float BASE_VOLUME = 0.5f;
+    private final int voicesPerSound;
+    private final Map<String, SoundCue> cues = new HashMap<>();
+    private final Object lock = new Object();
+    private Clip[][] voices = new Clip[0][];
+    private int[] requested = new int[0];
+    private boolean anyRequested;
+    private int[] pending = new int[0];
+    private boolean anyPending;
+    private Thread thread;
+    private volatile long played, coalesced, dropped;
+
+    /**
+     * Constructs a SoundMixer with the default number of voices of every sound.
+     */
+    public SoundMixer() {
+        this(DEFAULT_VOICES);
+    }
+
+    /**
+     * Constructs a SoundMixer.
+     * @param voicesPerSound The number of plays of the same sound that can be heard at once.
+     */
+    public SoundMixer(int voicesPerSound) {
+        this.voicesPerSound = voicesPerSound;
+    }
+
+    /**
+     * Gets the cue of a decoded sound, opening its voices the first time.
+     * @param path  The path of the sound file, which names the cue.
+     * @param sound The sound, decoded from the file.
+     * @return The cue of the sound.
+     */
+    SoundCue cue(String path, PcmSound sound) {
+        SoundCue cue = cues.get(path);
+        if (cue != null) {
+            return cue;
+        }
+        Clip[] soundVoices = openVoices(sound);
+        synchronized (lock) {
+            int id = voices.length;
+            voices = Arrays.copyOf(voices, id + 1);
+            voices[id] = soundVoices;
+            requested = Arrays.copyOf(requested, id + 1);
+            pending = Arrays.copyOf(pending, id + 1);
+            cue = new SoundCue(this, id);
+        }
+        cues.put(path, cue);
+        return cue;
+    }
+
+    /**
+     * Hands the sounds requested since the last flush to the mixer thread, one play per
+     * sound. Called by the game loop once per frame.
+     */
+    public void flush() {
+        if (!anyRequested) {
+            return;
+        }
+        synchronized (lock) {
+            for (int id = 0; id < requested.length; id++) {
+                pending[id] += requested[id];
+                requested[id] = 0;
+            }
+            anyRequested = false;
+            anyPending = true;
+            if (thread == null) {
+                thread = new Thread(this::mix, "sound-mixer");
+                thread.setDaemon(true);
+                thread.start();
+            }
+            lock.notify();
+        }
+    }
+
+    /**
+     * Gets the number of plays started so far.
+     * @return The number of plays.
+     */
+    public long getPlayedCount() {
+        return played;
+    }
+
+    /**
+     * Gets the number of requests folded into the play of another request of their frame.
+     * @return The number of coalesced requests.
+     */
+    public long getCoalescedCount() {
+        return coalesced;
+    }
+
+    /**
+     * Gets the number of plays dropped because all the voices of their sound were playing.
+     * @return The number of dropped plays.
+     */
+    public long getDroppedCount() {
+        return dropped;
+    }
+
+    void request(int id) {
+        requested[id]++;
+        anyRequested = true;
+    }
+
+    private Clip[] openVoices(PcmSound sound) {
+        byte[] pcm = sound.getSamples();
+        Clip[] soundVoices = new Clip[voicesPerSound];
+        for (int i = 0; i < voicesPerSound; i++) {
+            try {
+                soundVoices[i] = AudioSystem.getClip();
+                soundVoices[i].open(sound.getFormat(), pcm, 0, pcm.length);
+            } catch (LineUnavailableException | IllegalArgumentException e) {
+                // No audio output, or no more lines: the sound gets the voices opened so far
+                return Arrays.copyOf(soundVoices, i);
+            }
+        }
+        return soundVoices;
+    }
+
+    private void mix() {
+        int[] plays = new int[0];
+        Clip[][] soundVoices;
+        while (true) {
+            synchronized (lock) {
+                while (!anyPending) {
+                    try {
+                        lock.wait();
+                    } catch (InterruptedException e) {
+                        return;
+                    }
+                }
+                if (plays.length < pending.length) {
+                    plays = new int[pending.length];
+                }
+                System.arraycopy(pending, 0, plays, 0, pending.length);
+                Arrays.fill(pending, 0);
+                anyPending = false;
+                soundVoices = voices;
+            }
+            for (int id = 0; id < soundVoices.length; id++) {
+                if (plays[id] > 0) {
+                    play(soundVoices[id], plays[id]);
+                    plays[id] = 0;
+                }
+            }
+        }
+    }
+
+    private void play(Clip[] soundVoices, int requests) {
+        coalesced += requests - 1;
+        for (Clip voice : soundVoices) {
+            if (voice.isActive()) {
+                continue;
+            }
+            setVolume(voice, Math.min(1f, BASE_VOLUME * (float) Math.sqrt(requests)));
+            voice.setFramePosition(0);
+            voice.start();
+            played++;
+            return;
+        }
+        dropped++;
+    }
+
+    private static void setVolume(Clip voice, float volume) {
+        if (!voice.isControlSupported(FloatControl.Type.MASTER_GAIN)) {
+            return;
+        }
+        FloatControl gain = (FloatControl) voice.getControl(FloatControl.Type.MASTER_GAIN);
+        float decibels = (float) (20 * Math.log10(volume));
+        gain.setValue(Math.max(gain.getMinimum(), Math.min(gain.getMaximum(), decibels)));
+    }
+}
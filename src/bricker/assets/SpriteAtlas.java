@@ -0,0 +1,161 @@
+/**
+ * Package bricker.assets contains classes for loading and sharing the game assets.
+ */
+package bricker.assets;
+
+import danogl.gui.rendering.ImageRenderable;
+import danogl.gui.rendering.Renderable;
+import danogl.util.Vector2;
+import java.awt.AlphaComposite;
+import java.awt.Composite;
+import java.awt.Graphics2D;
+import java.awt.RenderingHints;
+import java.awt.image.BufferedImage;
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.LinkedHashMap;
+import java.util.Map;
+
+/**
+ * The SpriteAtlas class packs images into a single image, each scaled once, at startup, to
+ * the exact size it is drawn at in the game. Every packed image is handed out as a sprite,
+ * a renderable that copies its region of the atlas, so drawing a sprite at its size is a
+ * plain copy of pixels with no resampling. A sprite drawn at another size, as by a zooming
+ * camera, is scaled from the atlas.
+ * The images are packed in shelves, tallest first, with a pixel of padding between them.
+ * @author Shay Abbou & Shaked Hartal
+ */
+public class SpriteAtlas {
+    private static final int MIN_WIDTH = 1024;
+    private static final int PADDING = 1;
+    private final Map<String, Renderable> sprites = new LinkedHashMap<>();
+    private final BufferedImage atlas;
+
+    /**
+     * Constructs a SpriteAtlas of the given images.
+     * @param images The images to pack, by name. Images that are not ImageRenderables,
+     *               such as those of a headless game, are skipped.
+     * @param sizes  The size each image is drawn at in the game, by name. Images without
+     *               a size are skipped.
+     */
+    public SpriteAtlas(Map<String, Renderable> images, Map<String, Vector2> sizes) {
+        ArrayList<Entry> entries = new ArrayList<>();
+        for (Map.Entry<String, Renderable> image : images.entrySet()) {
+            Vector2 size = sizes.get(image.getKey());
+            if (!(image.getValue() instanceof ImageRenderable) || size == null) {
+                continue;
+            }
+            int width = Math.max(1, Math.round(size.x()));
+            int height = Math.max(1, Math.round(size.y()));
+            entries.add(new Entry(image.getKey(),
+                    (ImageRenderable) image.getValue(), width, height));
+        }
+        entries.sort(Comparator.comparingInt((Entry entry) -> entry.height).reversed());
+        int atlasWidth = MIN_WIDTH;
+        for (Entry entry : entries) {
+            atlasWidth = Math.max(atlasWidth, entry.width);
+        }
+        int x = 0, y = 0, shelfHeight = 0;
+        for (Entry entry : entries) {
+            if (x + entry.width > atlasWidth) {
+                x = 0;
+                y += shelfHeight + PADDING;
+                shelfHeight = 0;
+            }
+            entry.x = x;
+            entry.y = y;
+            x += entry.width + PADDING;
+            shelfHeight = Math.max(shelfHeight, entry.height);
+        }
+        if (entries.isEmpty()) {
+            atlas = null;
+            return;
+        }
+        atlas = new BufferedImage(atlasWidth, y + shelfHeight, BufferedImage.TYPE_INT_ARGB);
+        Graphics2D g = atlas.createGraphics();
+        g.setRenderingHint(RenderingHints.KEY_INTERPOLATION,
+                RenderingHints.VALUE_INTERPOLATION_BICUBIC);
+        g.setRenderingHint(RenderingHints.KEY_RENDERING, RenderingHints.VALUE_RENDER_QUALITY);
+        for (Entry entry : entries) {
+            g.drawImage(entry.image.getImage(), entry.x, entry.y, entry.width, entry.height,
+                    null);
+            sprites.put(entry.name, new Sprite(entry.x, entry.y, entry.width, entry.height));
+        }
+        g.dispose();
+    }
+
+    /**
+     * Gets the sprite of a packed image.
+     * @param name The name of the image.
+     * @return The sprite, or null if the image was not packed.
+     */
+    public Renderable sprite(String name) {
+        return sprites.get(name);
+    }
+
+    /**
+     * Gets the number of pixels of the atlas.
+     * @return The width times the height of the atlas, or 0 if no image was packed.
+     */
+    public long getPixelCount() {
+        return atlas == null ? 0 : (long) atlas.getWidth() * atlas.getHeight();
+    }
+
+    private static class Entry {
+        private final String name;
+        private final ImageRenderable image;
+        private final int width, height;
+        private int x, y;
+
+        Entry(String name, ImageRenderable image, int width, int height) {
+            this.name = name;
+            this.image = image;
+            this.width = width;
+            this.height = height;
+        }
+    }
+
+    /**
+     * Draws a region of the atlas. Rotation is not supported, as no game object rotates.
+     */
+    private class Sprite implements Renderable {
+        private final int x, y, width, height;
+
+        Sprite(int x, int y, int width, int height) {
+            this.x = x;
+            this.y = y;
+            this.width = width;
+            this.height = height;
+        }
+
+        @Override
+        public void render(Graphics2D g, Vector2 topLeftCorner, Vector2 dimensions,
+                           double degreesCounterClockwise, boolean isFlippedHorizontally,
+                           boolean isFlippedVertically, double opaqueness) {
+            int left = Math.round(topLeftCorner.x());
+            int top = Math.round(topLeftCorner.y());
+            int right = left + Math.round(dimensions.x());
+            int bottom = top + Math.round(dimensions.y());
+            if (isFlippedHorizontally) {
+                int swap = left;
+                left = right;
+                right = swap;
+            }
+            if (isFlippedVertically) {
+                int swap = top;
+                top = bottom;
+                bottom = swap;
+            }
+            if (opaqueness >= 1) {
+                g.drawImage(atlas, left, top, right, bottom, x, y, x + width, y + height,
+                        null);
+                return;
+            }
+            Composite composite = g.getComposite();
+            g.setComposite(AlphaComposite.getInstance(AlphaComposite.SRC_OVER,
+                    (float) opaqueness));
+            g.drawImage(atlas, left, top, right, bottom, x, y, x + width, y + height, null);
+            g.setComposite(composite);
+        }
+    }
+}
@@ -4,11 +4,10 @@
  */
 package bricker.brick_strategies;
 
-import bricker.gameobjects.Ball;
+import bricker.events.GameEvents;
+import bricker.gameobjects.BrickField;
+import bricker.gameobjects.CollisionCategories;
 import danogl.GameObject;
-import danogl.collisions.GameObjectCollection;
-import danogl.collisions.Layer;
-import danogl.util.Counter;
 
 /**
  * The BasicCollisionStrategy class defines the collision behavior for bricks when
@@ -17,32 +16,32 @@ import danogl.util.Counter;
  * @author Shay Abbou & Shaked Hartal
  */
 public class BasicCollisionStrategy implements CollisionStrategy{
-    private GameObjectCollection gameObjectCollection;
-    private Counter counter;
-
+    private BrickField brickField;
+    private GameEvents events;
 
     /**
      * Constructs a BasicCollisionStrategy with the specified parameters.
-     * @param gameObjectCollection The collection of GameObjects in the game.
-     * @param counter              The counter to keep track on the number of bricks.
+     * @param brickField           The brick wall of the level.
+     * @param events               The bus the destruction of a brick is published on.
      */
-    public BasicCollisionStrategy(GameObjectCollection gameObjectCollection, Counter counter){
-        this.gameObjectCollection = gameObjectCollection;
-        this.counter = counter;
+    public BasicCollisionStrategy(BrickField brickField, GameEvents events){
+        this.brickField = brickField;
+        this.events = events;
     }
 
     /**
      * Defines the behavior when a collision occurs between brick (GameObject) and Ball GameObject.
-     * The current brick (GameObject) is removed from the collection of objects,
-     * and the bricks' counter is decremented.
+     * The current brick (GameObject) is removed from the brick field,
+     * and a BRICK_DESTROYED event is published.
      * @param thisObj   The current GameObject involved in the collision - brick.
      * @param otherObj  The other GameObject involved in the collision - Ball.
      */
     @Override
     public void onCollision(GameObject thisObj, GameObject otherObj) {
-        if(otherObj instanceof Ball) {
-            gameObjectCollection.removeGameObject(thisObj, Layer.STATIC_OBJECTS);
-            counter.decrement();
+        if(CollisionCategories.isIn(otherObj, CollisionCategories.BALLS)) {
+            if (brickField.remove(thisObj)) {
+                events.publish(GameEvents.BRICK_DESTROYED, brickField.getAliveCount());
+            }
         }
     }
 }
@@ -0,0 +1,21 @@
+/**
+ * Package bricker.brick_strategies contains classes related to
+ * different collision strategies for bricks.
+ */
+package bricker.brick_strategies;
+
+import danogl.GameObject;
+
+/**
+ * The BrickEffect interface is implemented by the special collision strategies, so a
+ * composed strategy can apply their effect without their basic brick removal.
+ * @author Shay Abbou & Shaked Hartal
+ */
+interface BrickEffect {
+    /**
+     * Applies the special effect of a strategy, without removing the brick.
+     * @param thisObj   The brick that was hit.
+     * @param otherObj  The game object that hit the brick.
+     */
+    void applyEffect(GameObject thisObj, GameObject otherObj);
+}
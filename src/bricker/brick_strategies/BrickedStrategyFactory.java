@@ -4,44 +4,61 @@
  */
 package bricker.brick_strategies;
 
+import bricker.assets.AssetRegistry;
+import bricker.events.GameEvents;
 import bricker.gameobjects.Ball;
-import bricker.ui.Life;
+import bricker.gameobjects.BrickField;
+import bricker.gameobjects.OffScreenCuller;
+import bricker.gameobjects.PuckPool;
 import danogl.GameManager;
 import danogl.collisions.GameObjectCollection;
-import danogl.gui.ImageReader;
-import danogl.gui.SoundReader;
 import danogl.gui.UserInputListener;
-import danogl.util.Counter;
 import danogl.util.Vector2;
+import java.util.HashMap;
 import java.util.Random;
 
 /**
  * The BrickedStrategyFactory class is responsible for creating
  * various collision strategies for bricks based on game conditions.
+ * Composed (double) strategies are drawn as strategy codes and interned, so every brick
+ * with the same combination of effects shares a single DoubleBehaviorStrategy.
+ * Every special strategy is created the first time a brick gets it, so a game whose bricks
+ * never use a strategy never builds it, nor its helper objects.
  * @author Shay Abbou & Shaked Hartal
  */
 public class BrickedStrategyFactory {
     private static final int MAX_SPECIAL_STRATEGY = 5;
     private static final int MIN_SPECIAL_STRATEGY = 4;
     private static final int MAX_DOUBLE_STRATEGIES = 2;
-    private Counter counter;
+    private final GameObjectCollection gameObjects;
+    private final GameEvents events;
+    private final Vector2 ballDimensions;
+    private final AssetRegistry assets;
+    private final float ballSpeed;
+    private final Vector2 windowDimensions;
+    private final int paddleWidth, paddleHeight;
+    private final UserInputListener inputListener;
+    private final GameManager gameManager;
+    private final Ball ball;
+    private final Vector2 heartDimensions;
+    private final OffScreenCuller culler;
     private Random rand;
     private CollisionStrategy basic;
-    private CollisionStrategy puck;
-    private CollisionStrategy paddle;
-    private CollisionStrategy camera;
-    private CollisionStrategy heart;
-    private CollisionStrategy doubleStrategyObject;
+    private PuckStrategy puck;
+    private ExtraPaddleStrategy paddle;
+    private CameraStrategy camera;
+    private HeartStrategy heart;
     private  CollisionStrategy[] strategiesObjects;
+    private BrickEffect[] effects;
+    private HashMap<Integer, CollisionStrategy> doubleStrategies = new HashMap<>();
     private int doubleStrategiesCounter;
 
     /**
      * Constructs a BrickedStrategyFactory with the specified parameters.
      * @param gameObjects        The collection of GameObjects in the game.
-     * @param counter            The counter to keep track on the number of bricks
+     * @param events             The bus the strategies publish game state changes on.
      * @param ballDimensions     The dimensions of the ball.
-     * @param imageReader        The image reader for loading images.
-     * @param soundReader        The sound reader for loading sounds.
+     * @param assets             The preloaded images and sounds of the game.
      * @param ballSpeed          The speed of the ball.
      * @param windowDimensions   The dimensions of the game window.
      * @param paddleWidth        The width of the paddle.
@@ -50,27 +67,44 @@ public class BrickedStrategyFactory {
      * @param gameManager        The game manager.
      * @param ball               The ball GameObject.
      * @param heartDimensions    The dimensions of the heart GameObject.
-     * @param life               The life GameObject.
+     * @param brickField         The brick wall of the level.
+     * @param culler             The culler that removes transient objects from the game.
+     * @param rand               The random source of the game.
      */
-    public BrickedStrategyFactory(GameObjectCollection gameObjects, Counter counter,
-                                  Vector2 ballDimensions, ImageReader imageReader, SoundReader soundReader,
+    public BrickedStrategyFactory(GameObjectCollection gameObjects, GameEvents events,
+                                  Vector2 ballDimensions, AssetRegistry assets,
                                   float ballSpeed, Vector2 windowDimensions, int paddleWidth,
                                   int paddleHeight, UserInputListener inputListener,
                                   GameManager gameManager, Ball ball,
-                                  Vector2 heartDimensions, Life life) {
-        basic = new BasicCollisionStrategy(gameObjects, counter);
-        puck = new PuckStrategy(gameObjects,ballDimensions,
-                imageReader,soundReader,ballSpeed,windowDimensions,basic);
-        paddle = new ExtraPaddleStrategy(gameObjects,imageReader, windowDimensions,
-                paddleWidth, paddleHeight, inputListener,basic);
-        camera = new CameraStrategy(gameManager , windowDimensions ,ball, basic);
-        heart = new HeartStrategy(gameObjects,heartDimensions
-                ,imageReader,windowDimensions,life,basic);
-        this.counter = counter;
-        this.rand = new Random();
-        this.strategiesObjects = new CollisionStrategy [] {puck,paddle,camera,heart};
-
+                                  Vector2 heartDimensions, BrickField brickField,
+                                  OffScreenCuller culler, Random rand) {
+        this.gameObjects = gameObjects;
+        this.events = events;
+        this.ballDimensions = ballDimensions;
+        this.assets = assets;
+        this.ballSpeed = ballSpeed;
+        this.windowDimensions = windowDimensions;
+        this.paddleWidth = paddleWidth;
+        this.paddleHeight = paddleHeight;
+        this.inputListener = inputListener;
+        this.gameManager = gameManager;
+        this.ball = ball;
+        this.heartDimensions = heartDimensions;
+        this.culler = culler;
+        basic = new BasicCollisionStrategy(brickField, events);
+        this.rand = rand;
+        // Indexed as the effects of StrategyCodes, filled on first use
+        this.strategiesObjects = new CollisionStrategy[StrategyCodes.NUM_OF_EFFECTS];
+        this.effects = new BrickEffect[StrategyCodes.NUM_OF_EFFECTS];
     }
+    /**
+     * Gets the pool the pucks of the puck strategy are taken from.
+     * @return The puck pool, or null if no brick got the puck strategy.
+     */
+    public PuckPool getPuckPool() {
+        return puck == null ? null : puck.getPuckPool();
+    }
+
     /**
      * Gets a random collision strategy based on game conditions.
      * Each special strategy (Camera, Puck, Double, Extra Paddle, Heart) has a 10% probability
@@ -81,36 +115,92 @@ public class BrickedStrategyFactory {
         int i = rand.nextInt(10);
         switch (i){
             case 0:
-                return puck;
+                return effectStrategy(StrategyCodes.PUCK);
             case 1:
-                return paddle;
+                return effectStrategy(StrategyCodes.PADDLE);
             case 2:
-                return camera;
+                return effectStrategy(StrategyCodes.CAMERA);
             case 3:
-                return heart;
+                return effectStrategy(StrategyCodes.HEART);
             case 4:
                 doubleStrategiesCounter = 0;
-                doubleStrategyObject = createDouble();
-                return doubleStrategyObject;
+                return getStrategy(createDouble());
             default:
                 return basic;
         }
     }
 
-    private DoubleBehaviorStrategy createDouble(){
+    /**
+     * Gets the collision strategy of a strategy code. Composed strategies are created on
+     * first use and shared by every later brick with the same code.
+     * @param code The strategy code, as defined by StrategyCodes.
+     * @return The collision strategy of the code.
+     */
+    public CollisionStrategy getStrategy(int code){
+        if (code == StrategyCodes.BASIC) {
+            return basic;
+        }
+        if (!StrategyCodes.isComposed(code)) {
+            return effectStrategy(StrategyCodes.firstEffect(code));
+        }
+        CollisionStrategy doubleStrategy = doubleStrategies.get(code);
+        if (doubleStrategy == null) {
+            for (int effect = 0; effect < StrategyCodes.NUM_OF_EFFECTS; effect++) {
+                if (StrategyCodes.multiplicity(code, effect) > 0) {
+                    effectStrategy(effect);
+                }
+            }
+            doubleStrategy = new DoubleBehaviorStrategy(basic, effects, code);
+            doubleStrategies.put(code, doubleStrategy);
+        }
+        return doubleStrategy;
+    }
+
+    private CollisionStrategy effectStrategy(int effect) {
+        if (strategiesObjects[effect] != null) {
+            return strategiesObjects[effect];
+        }
+        switch (effect) {
+            case StrategyCodes.PUCK:
+                puck = new PuckStrategy(gameObjects,ballDimensions,
+                        assets.image(AssetRegistry.PUCK_IMAGE),
+                        assets.cue(AssetRegistry.COLLISION_SOUND),ballSpeed,culler,rand,basic);
+                strategiesObjects[effect] = puck;
+                effects[effect] = puck;
+                break;
+            case StrategyCodes.PADDLE:
+                paddle = new ExtraPaddleStrategy(gameObjects,
+                        assets.image(AssetRegistry.PADDLE_IMAGE), windowDimensions,
+                        paddleWidth, paddleHeight, inputListener,culler,basic);
+                strategiesObjects[effect] = paddle;
+                effects[effect] = paddle;
+                break;
+            case StrategyCodes.CAMERA:
+                camera = new CameraStrategy(gameManager , windowDimensions ,ball, events, basic);
+                strategiesObjects[effect] = camera;
+                effects[effect] = camera;
+                break;
+            default:
+                heart = new HeartStrategy(gameObjects,heartDimensions
+                        ,assets.image(AssetRegistry.HEART_IMAGE),culler,events,basic);
+                strategiesObjects[effect] = heart;
+                effects[effect] = heart;
+                break;
+        }
+        return strategiesObjects[effect];
+    }
+
+    private int createDouble(){
         doubleStrategiesCounter++;
-        CollisionStrategy collisionStrategy1 = randomDoubleStrategy();
-        CollisionStrategy collisionStrategy2 = randomDoubleStrategy();
-        return new DoubleBehaviorStrategy
-                (counter,collisionStrategy1,collisionStrategy2);
+        return randomDoubleStrategy() + randomDoubleStrategy();
     }
 
-    private CollisionStrategy randomDoubleStrategyOutOfFour(){
+    private int randomDoubleStrategyOutOfFour(){
         int randomIndex = rand.nextInt(MIN_SPECIAL_STRATEGY);
-        return strategiesObjects[randomIndex];
+        return StrategyCodes.of(randomIndex);
     }
 
-    private CollisionStrategy randomDoubleStrategy(){
+    private int randomDoubleStrategy(){
         // Check if double strategies are not allowed
         if(doubleStrategiesCounter >= MAX_DOUBLE_STRATEGIES){
             return randomDoubleStrategyOutOfFour();
@@ -4,8 +4,10 @@
  */
 package bricker.brick_strategies;
 
+import bricker.diagnostics.CameraSwitchEvent;
+import bricker.events.GameEvents;
 import bricker.gameobjects.Ball;
-import bricker.gameobjects.Puck;
+import bricker.gameobjects.CollisionCategories;
 import danogl.GameManager;
 import danogl.GameObject;
 import danogl.gui.rendering.Camera;
@@ -17,10 +19,13 @@ import danogl.util.Vector2;
  * It uses the basic collision behavior specified by another CollisionStrategy.
  * @author Shay Abbou & Shaked Hartal
  */
-public class CameraStrategy implements CollisionStrategy{
+public class CameraStrategy implements CollisionStrategy, BrickEffect {
     private final CollisionStrategy basic;
     private GameManager gameManager;
     private Camera camera;
+    private final Vector2 windowDimensions;
+    private final Ball ball;
+    private final GameEvents events;
 
     /**
      * Constructs a CameraCollisionStrategy with the specified parameters.
@@ -28,13 +33,15 @@ public class CameraStrategy implements CollisionStrategy{
      * @param gameManager          The game manager responsible for managing game state.
      * @param windowDimensions     The dimensions of the game window.
      * @param ball                 The ball GameObject.
+     * @param events               The bus the activation of the camera is published on.
      * @param basic                The basic collision strategy to extend.
      */
     public CameraStrategy(GameManager gameManager , Vector2 windowDimensions ,
-                          Ball ball, CollisionStrategy basic) {
-        camera = new Camera(ball,Vector2.ZERO, windowDimensions.mult(1.2f),
-                windowDimensions);
+                          Ball ball, GameEvents events, CollisionStrategy basic) {
+        this.windowDimensions = windowDimensions;
         this.gameManager = gameManager;
+        this.ball = ball;
+        this.events = events;
         this.basic = basic;
     }
 
@@ -49,11 +56,46 @@ public class CameraStrategy implements CollisionStrategy{
     @Override
     public void onCollision(GameObject thisObj, GameObject otherObj) {
         basic.onCollision(thisObj,otherObj);
-        if (otherObj instanceof Puck){
+        applyEffect(thisObj, otherObj);
+    }
+
+    /**
+     * Makes the camera follow the ball, unless the brick was hit by a puck or a camera is
+     * already set. The camera is created the first time it is set. The brick is not
+     * removed.
+     * @param thisObj   The current GameObject involved in the collision - brick .
+     * @param otherObj  The other GameObject involved in the collision - ball and not a puck.
+     */
+    @Override
+    public void applyEffect(GameObject thisObj, GameObject otherObj) {
+        if (CollisionCategories.isIn(otherObj, CollisionCategories.PUCK)){
             return;
         }
         if(gameManager.camera() == null){
-            gameManager.setCamera(camera);
+            gameManager.setCamera(getCamera());
+            CameraSwitchEvent.switched("camera strategy", true, ball.getCollisionCounter());
+            events.publish(GameEvents.CAMERA_ACTIVATED, ball.getCollisionCounter());
         }
     }
+
+    /**
+     * Gets the camera that follows the ball, creating it the first time.
+     * @return The camera.
+     */
+    public Camera getCamera() {
+        if (camera == null) {
+            camera = new Camera(ball,Vector2.ZERO, windowDimensions.mult(1.2f),
+                    windowDimensions);
+        }
+        return camera;
+    }
+
+    /**
+     * Gets the strategy code of the strategy.
+     * @return The code of the camera effect.
+     */
+    @Override
+    public int getCode() {
+        return StrategyCodes.of(StrategyCodes.CAMERA);
+    }
 }
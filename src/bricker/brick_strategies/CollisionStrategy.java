@@ -19,4 +19,13 @@ public interface CollisionStrategy {
      */
     public void onCollision(GameObject thisObj, GameObject otherObj);
 
+    /**
+     * Gets the strategy code of the strategy, which tells the effects it applies
+     * (see StrategyCodes). Strategies with special effects override it.
+     * @return The strategy code, StrategyCodes.BASIC by default.
+     */
+    default int getCode() {
+        return StrategyCodes.BASIC;
+    }
+
 }
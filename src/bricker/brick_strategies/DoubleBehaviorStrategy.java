@@ -4,50 +4,71 @@
  */
 package bricker.brick_strategies;
 
-import bricker.gameobjects.Ball;
+import bricker.gameobjects.CollisionCategories;
 import danogl.GameObject;
-import danogl.collisions.GameObjectCollection;
-import danogl.util.Counter;
 
 /**
  * The DoubleBehaviorStrategy class implements a collision strategy for bricks that combines
- * the behaviors of two different collision strategies upon collision with a ball.
- * It uses the basic collision behavior specified by another CollisionStrategy.
+ * the behaviors of several collision strategies upon collision with a ball.
+ * The combination is flattened into a strategy code (see StrategyCodes), which holds how
+ * many times each special effect is applied, however deeply the strategies were nested.
+ * A hit removes the brick once, then applies every effect in a single pass. Instances are
+ * interned by BrickedStrategyFactory, so all bricks with the same code share one object.
  * @author Shay Abbou & Shaked Hartal
  */
 public class DoubleBehaviorStrategy implements CollisionStrategy {
-
-    private CollisionStrategy collisionStrategy1;
-    private CollisionStrategy collisionStrategy2;
-    private Counter counter;
+    private final CollisionStrategy basic;
+    private final BrickEffect[] effects;
+    private final int[] multiplicities;
+    private final int effectMask;
+    private final int code;
 
     /**
      * Constructs a DoubleBehaviorStrategy with the specified parameters.
-     *
-     * @param counter              The counter to keep track of relevant number of bricks.
-     * @param object1              The first collision strategy to combine.
-     * @param object2              The second collision strategy to combine.
+     * @param basic   The basic collision strategy, applied once per hit.
+     * @param effects The special effects, indexed as in StrategyCodes.
+     * @param code    The strategy code, holding the multiplicity of every effect.
      */
-    public DoubleBehaviorStrategy(Counter counter, CollisionStrategy object1,
-                                  CollisionStrategy object2) {
-        this.counter = counter;
-        this.collisionStrategy1 = object1;
-        this.collisionStrategy2 = object2;
+    DoubleBehaviorStrategy(CollisionStrategy basic, BrickEffect[] effects, int code) {
+        this.basic = basic;
+        this.effects = effects;
+        this.code = code;
+        this.effectMask = StrategyCodes.effectMask(code);
+        this.multiplicities = new int[StrategyCodes.NUM_OF_EFFECTS];
+        for (int effect = 0; effect < StrategyCodes.NUM_OF_EFFECTS; effect++) {
+            multiplicities[effect] = StrategyCodes.multiplicity(code, effect);
+        }
+    }
+
+    /**
+     * Gets the strategy code of the combination.
+     * @return The strategy code.
+     */
+    @Override
+    public int getCode() {
+        return code;
     }
 
     /**
      * Defines the behavior when a collision occurs between a brick and a ball (or puck).
-     * Combines the behaviors of two different collision strategies and increases the counter.
+     * Removes the brick once, then applies every combined effect as many times as the
+     * combination holds it.
      * @param thisObj   The current GameObject involved in the collision (brick).
      * @param otherObj  The other GameObject involved in the collision (ball or puck).
      */
     @Override
     public void onCollision(GameObject thisObj, GameObject otherObj) {
-
-        if (otherObj instanceof Ball) {
-            collisionStrategy1.onCollision(thisObj, otherObj);
-            collisionStrategy2.onCollision(thisObj, otherObj);
-            counter.increaseBy(1);
+        if (!CollisionCategories.isIn(otherObj, CollisionCategories.BALLS)) {
+            return;
+        }
+        basic.onCollision(thisObj, otherObj);
+        for (int effect = 0; effect < effects.length; effect++) {
+            if ((effectMask & (1 << effect)) == 0) {
+                continue;
+            }
+            for (int i = 0; i < multiplicities[effect]; i++) {
+                effects[effect].applyEffect(thisObj, otherObj);
+            }
         }
     }
 }
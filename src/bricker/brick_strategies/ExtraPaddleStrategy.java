@@ -4,10 +4,11 @@
  */
 package bricker.brick_strategies;
 
+import bricker.diagnostics.EntitySpawnEvent;
 import bricker.gameobjects.ExtraPaddle;
+import bricker.gameobjects.OffScreenCuller;
 import danogl.GameObject;
 import danogl.collisions.GameObjectCollection;
-import danogl.gui.ImageReader;
 import danogl.gui.UserInputListener;
 import danogl.gui.rendering.Renderable;
 import danogl.util.Counter;
@@ -19,32 +20,39 @@ import danogl.util.Vector2;
  * by another CollisionStrategy.
  * @author Shay Abbou & Shaked Hartal
  */
-public class ExtraPaddleStrategy implements CollisionStrategy{
+public class ExtraPaddleStrategy implements CollisionStrategy, BrickEffect {
     private GameObjectCollection gameObjects;
     private CollisionStrategy basic;
     private ExtraPaddle extraPaddle;
+    private final Renderable paddleImage;
+    private final Vector2 windowDimensions;
+    private final Vector2 paddleDimensions;
+    private final UserInputListener inputListener;
+    private final OffScreenCuller culler;
 
     /**
      * Constructs an ExtraPaddleStrategy with the specified parameters.
      * @param gameObjects       The collection of GameObjects in the game.
-     * @param imageReader       The image reader for loading images.
+     * @param paddleImage       The renderable representing the extra paddle.
      * @param windowDimensions  The dimensions of the game window.
      * @param paddleWidth       The width of the extra paddle.
      * @param paddleHeight      The height of the extra paddle.
      * @param inputListener     The user input listener for handling paddle controls.
+     * @param culler            The culler that removes the extra paddle from the game.
      * @param basic             The basic collision strategy to extend.
      */
     public ExtraPaddleStrategy(GameObjectCollection gameObjects,
-                               ImageReader imageReader, Vector2 windowDimensions,
+                               Renderable paddleImage, Vector2 windowDimensions,
                                int paddleWidth, int paddleHeight,
-                               UserInputListener inputListener, CollisionStrategy basic) {
+                               UserInputListener inputListener, OffScreenCuller culler,
+                               CollisionStrategy basic) {
         this.basic = basic;
         this.gameObjects = gameObjects;
-        Renderable paddleImage = imageReader.readImage(
-                "assets/paddle.png", true);
-        this.extraPaddle = new ExtraPaddle(Vector2.ZERO, new Vector2(paddleWidth, paddleHeight),
-                paddleImage, inputListener, windowDimensions, gameObjects);
-        extraPaddle.setCenter(new Vector2(windowDimensions.x()/2, windowDimensions.y()/2));
+        this.paddleImage = paddleImage;
+        this.windowDimensions = windowDimensions;
+        this.paddleDimensions = new Vector2(paddleWidth, paddleHeight);
+        this.inputListener = inputListener;
+        this.culler = culler;
     }
 
     /**
@@ -57,9 +65,45 @@ public class ExtraPaddleStrategy implements CollisionStrategy{
     @Override
     public void onCollision(GameObject thisObj, GameObject otherObj) {
         basic.onCollision(thisObj,otherObj);
+        applyEffect(thisObj, otherObj);
+    }
+
+    /**
+     * Adds the extra paddle if no extra paddle is active, without removing the brick.
+     * The extra paddle is created on the first hit.
+     * @param thisObj   The current GameObject involved in the collision (brick).
+     * @param otherObj  The other GameObject involved in the collision (ball or puck).
+     */
+    @Override
+    public void applyEffect(GameObject thisObj, GameObject otherObj) {
+        ExtraPaddle extraPaddle = getExtraPaddle();
         if(extraPaddle.getPaddleCounter() == 0){
             gameObjects.addGameObject(extraPaddle);
             extraPaddle.incrementPaddleCounter();
+            EntitySpawnEvent.spawned("extra paddle", 1);
         }
     }
+
+    /**
+     * Gets the extra paddle of the strategy, creating it in the middle of the window the
+     * first time. It is not added to the game.
+     * @return The extra paddle.
+     */
+    public ExtraPaddle getExtraPaddle() {
+        if (extraPaddle == null) {
+            extraPaddle = new ExtraPaddle(Vector2.ZERO, paddleDimensions, paddleImage,
+                    inputListener, windowDimensions, culler);
+            extraPaddle.setCenter(new Vector2(windowDimensions.x()/2, windowDimensions.y()/2));
+        }
+        return extraPaddle;
+    }
+
+    /**
+     * Gets the strategy code of the strategy.
+     * @return The code of the paddle effect.
+     */
+    @Override
+    public int getCode() {
+        return StrategyCodes.of(StrategyCodes.PADDLE);
+    }
 }
@@ -4,11 +4,12 @@
  */
 package bricker.brick_strategies;
 
+import bricker.diagnostics.EntitySpawnEvent;
+import bricker.events.GameEvents;
 import bricker.gameobjects.Heart;
-import bricker.ui.Life;
+import bricker.gameobjects.OffScreenCuller;
 import danogl.GameObject;
 import danogl.collisions.GameObjectCollection;
-import danogl.gui.ImageReader;
 import danogl.gui.rendering.Renderable;
 import danogl.util.Vector2;
 
@@ -18,32 +19,32 @@ import danogl.util.Vector2;
  * by another CollisionStrategy.
  * @author Shay Abbou & Shaked Hartal
  */
-public class HeartStrategy implements CollisionStrategy{
+public class HeartStrategy implements CollisionStrategy, BrickEffect {
     private CollisionStrategy basic;
-    private Vector2 windowDimensions;
-    private Life life;
+    private OffScreenCuller culler;
+    private GameEvents events;
     private GameObjectCollection gameObjectCollection;
     private Vector2 dimensions;
-    private ImageReader imageReader;
+    private Renderable heartImage;
 
     /**
      * Constructs a GiveHeartStrategy with the specified parameters.
      * @param gameObjectCollection The collection of GameObjects in the game.
      * @param dimensions           The dimensions for the Heart GameObject.
-     * @param imageReader          The image reader for loading images.
-     * @param windowDimensions     The dimensions of the game window.
-     * @param life                 The Life object to manage player lives.
+     * @param heartImage           The renderable representing the Heart GameObjects.
+     * @param culler               The culler that removes the hearts from the game.
+     * @param events               The bus the hearts publish a caught heart on.
      * @param basic                The basic collision strategy to extend.
      */
     public HeartStrategy(GameObjectCollection gameObjectCollection,
-                         Vector2 dimensions, ImageReader imageReader,
-                         Vector2 windowDimensions, Life life, CollisionStrategy basic) {
+                         Vector2 dimensions, Renderable heartImage,
+                         OffScreenCuller culler, GameEvents events, CollisionStrategy basic) {
         this.basic = basic;
         this.dimensions = dimensions;
-        this.imageReader = imageReader;
+        this.heartImage = heartImage;
         this.gameObjectCollection = gameObjectCollection;
-        this.windowDimensions = windowDimensions;
-        this.life = life;
+        this.culler = culler;
+        this.events = events;
     }
 
     /**
@@ -55,6 +56,16 @@ public class HeartStrategy implements CollisionStrategy{
     @Override
     public void onCollision(GameObject thisObj, GameObject otherObj) {
         basic.onCollision(thisObj,otherObj);
+        applyEffect(thisObj, otherObj);
+    }
+
+    /**
+     * Creates a Heart GameObject at the center of the brick, without removing the brick.
+     * @param thisObj   The current GameObject involved in the collision (brick).
+     * @param otherObj  The other GameObject involved in the collision (ball).
+     */
+    @Override
+    public void applyEffect(GameObject thisObj, GameObject otherObj) {
         Vector2 pos = thisObj.getTopLeftCorner();
         Vector2 center = new Vector2(pos.x() + thisObj.getDimensions().x()/2 ,
                 pos.y() + thisObj.getDimensions().y()/2 );
@@ -62,12 +73,19 @@ public class HeartStrategy implements CollisionStrategy{
     }
 
     private void createHeart(Vector2 center){
-        Renderable heartImage =
-                imageReader.readImage("assets/heart.png", true);
-        GameObject heart = new Heart(center, dimensions , heartImage, windowDimensions,
-                gameObjectCollection, life);
+        GameObject heart = new Heart(center, dimensions , heartImage, culler, events);
         gameObjectCollection.addGameObject(heart);
+        culler.track(heart);
             heart.setVelocity(new Vector2(0, 100));
+        EntitySpawnEvent.spawned("heart", 1);
     }
-}
 
+    /**
+     * Gets the strategy code of the strategy.
+     * @return The code of the heart effect.
+     */
+    @Override
+    public int getCode() {
+        return StrategyCodes.of(StrategyCodes.HEART);
+    }
+}
@@ -4,14 +4,14 @@
  */
 package bricker.brick_strategies;
 
+import bricker.assets.SoundCue;
+import bricker.diagnostics.EntitySpawnEvent;
+import bricker.gameobjects.OffScreenCuller;
 import bricker.gameobjects.Puck;
+import bricker.gameobjects.PuckPool;
 import danogl.GameObject;
 import danogl.collisions.GameObjectCollection;
-import danogl.gui.ImageReader;
-import danogl.gui.Sound;
-import danogl.gui.SoundReader;
 import danogl.gui.rendering.Renderable;
-import danogl.util.Counter;
 import danogl.util.Vector2;
 import java.util.Random;
 
@@ -19,40 +19,52 @@ import java.util.Random;
  * The PuckStrategy class implements a collision strategy for bricks that creates additional
  * Two Puck GameObjects upon collision with a ball.
  * It uses the basic collision behavior specified by another CollisionStrategy.
+ * The pucks are taken from a PuckPool, and an OffScreenCuller returns them to it once they
+ * fall off the screen.
  * @author Shay Abbou & Shaked Hartal.
  */
-public class PuckStrategy implements CollisionStrategy {
+public class PuckStrategy implements CollisionStrategy, BrickEffect {
     private static final int NUM_OF_PUCKS = 2;
+    private static final int PUCK_POOL_CAPACITY = 64;
+    private static final int PUCK_POOL_PREWARM = 16;
     private CollisionStrategy basic;
-    private Vector2 windowDimensions;
     private float ballSpeed;
-    private SoundReader soundReader;
     private GameObjectCollection gameObjectCollection;
-    private Vector2 dimensions;
-    private ImageReader imageReader;
+    private OffScreenCuller culler;
+    private PuckPool puckPool;
+    private Random rand;
 
     /**
      * Constructs a CreatePuckStragety with the specified parameters.
      *
      * @param gameObjectCollection The collection of GameObjects in the game.
      * @param dimensions           The dimensions for the Puck GameObjects.
-     * @param imageReader          The image reader for loading images.
-     * @param soundReader          The sound reader for loading sounds.
+     * @param puckImage            The renderable representing the Puck GameObjects.
+     * @param collisionSound       The sound played upon collision of a Puck.
      * @param ballSpeed            The speed of the ball.
-     * @param windowDimensions     The dimensions of the game window.
+     * @param culler               The culler that removes the pucks that fell off the screen.
+     * @param rand                 The random source of the game, for the puck directions.
      * @param basic                The basic collision strategy to extend.
      */
     public PuckStrategy(GameObjectCollection gameObjectCollection,
-                        Vector2 dimensions, ImageReader imageReader,
-                        SoundReader soundReader, float ballSpeed,
-                        Vector2 windowDimensions, CollisionStrategy basic) {
+                        Vector2 dimensions, Renderable puckImage,
+                        SoundCue collisionSound, float ballSpeed,
+                        OffScreenCuller culler, Random rand, CollisionStrategy basic) {
         this.basic = basic;
-        this.dimensions = dimensions;
-        this.imageReader = imageReader;
-        this.soundReader = soundReader;
         this.gameObjectCollection = gameObjectCollection;
         this.ballSpeed = ballSpeed;
-        this.windowDimensions = windowDimensions;
+        this.culler = culler;
+        this.rand = rand;
+        this.puckPool = new PuckPool(PUCK_POOL_CAPACITY, PUCK_POOL_PREWARM, dimensions,
+                puckImage, collisionSound);
+    }
+
+    /**
+     * Gets the pool the pucks of this strategy are taken from.
+     * @return The puck pool.
+     */
+    public PuckPool getPuckPool() {
+        return puckPool;
     }
 
     /**
@@ -65,36 +77,47 @@ public class PuckStrategy implements CollisionStrategy {
     @Override
     public void onCollision(GameObject thisObj, GameObject otherObj) {
         basic.onCollision(thisObj,otherObj);
+        applyEffect(thisObj, otherObj);
+    }
+
+    /**
+     * Creates 2 Puck GameObjects at the center of the brick, without removing the brick.
+     * @param thisObj   The current GameObject involved in the collision (brick).
+     * @param otherObj  The other GameObject involved in the collision (ball).
+     */
+    @Override
+    public void applyEffect(GameObject thisObj, GameObject otherObj) {
         Vector2 position = thisObj.getTopLeftCorner();
         Vector2 center = new Vector2(position.x() + thisObj.getDimensions().x()/2 ,
                 position.y() + thisObj.getDimensions().y()/2 );
         createPucks(center);
     }
 
-
     private void createPucks(Vector2 center){
-        Renderable puckImage =
-                imageReader.readImage("assets/mockBall.png", true);
-        Sound collisionSound = soundReader.readSound("assets/blop.wav");
-        GameObject puck1 = new Puck(center, dimensions , puckImage, collisionSound,
-                windowDimensions,gameObjectCollection);
-        GameObject puck2 = new Puck(center, dimensions , puckImage, collisionSound,
-                windowDimensions,gameObjectCollection);
-        GameObject [] pucks = {puck1,puck2} ;
-        Random rand = new Random();
         boolean dirX = rand.nextBoolean();
         boolean dirY = rand.nextBoolean();
         for (int i = 0; i < NUM_OF_PUCKS; i++) {
-            gameObjectCollection.addGameObject(pucks[i]);
             float ballVelX = ballSpeed;
             float ballVelY = ballSpeed;
             if(dirX)
                 ballVelX *= -1;
             if(dirY)
                 ballVelY *= -1;
-            pucks[i].setVelocity(new Vector2(ballVelX, ballVelY));
+            Puck puck = puckPool.acquire(center, new Vector2(ballVelX, ballVelY));
+            gameObjectCollection.addGameObject(puck);
+            culler.track(puck);
             dirX = !dirX;
             dirY = !dirY;
         }
+        EntitySpawnEvent.spawned("puck", NUM_OF_PUCKS);
+    }
+
+    /**
+     * Gets the strategy code of the strategy.
+     * @return The code of the puck effect.
+     */
+    @Override
+    public int getCode() {
+        return StrategyCodes.of(StrategyCodes.PUCK);
     }
 }
@@ -0,0 +1,131 @@
+/**
+ * Package bricker.brick_strategies contains classes related to
+ * different collision strategies for bricks.
+ */
+package bricker.brick_strategies;
+
+/**
+ * The StrategyCodes class defines the compact encoding of brick collision strategies.
+ * A code holds, for each of the four special effects (puck, extra paddle, camera and
+ * heart), how many times a hit applies it, in 4 bits per effect. Code 0 is the basic
+ * strategy, a code with a single effect applied once is that special strategy, and any
+ * other code is a composed (double) strategy.
+ * @author Shay Abbou & Shaked Hartal
+ */
+public final class StrategyCodes {
+    /** The code of the basic strategy, which applies no special effect. */
+    public static final int BASIC = 0;
+    /** The index of the puck effect. */
+    public static final int PUCK = 0;
+    /** The index of the extra paddle effect. */
+    public static final int PADDLE = 1;
+    /** The index of the camera effect. */
+    public static final int CAMERA = 2;
+    /** The index of the heart effect. */
+    public static final int HEART = 3;
+    /** The number of special effects. */
+    public static final int NUM_OF_EFFECTS = 4;
+    private static final int BITS_PER_EFFECT = 4;
+    private static final int MULTIPLICITY_MASK = (1 << BITS_PER_EFFECT) - 1;
+    private static final String[] EFFECT_NAMES = {"puck", "paddle", "camera", "heart"};
+
+    private StrategyCodes() {
+    }
+
+    /**
+     * Gets the code of a special strategy that applies a single effect once.
+     * @param effect The index of the effect.
+     * @return The code of the effect.
+     */
+    public static int of(int effect) {
+        return 1 << (effect * BITS_PER_EFFECT);
+    }
+
+    /**
+     * Gets the code of a strategy that applies each of the given effects once per time
+     * it is listed.
+     * @param effects The indices of the effects.
+     * @return The combined code.
+     */
+    public static int of(int... effects) {
+        int code = BASIC;
+        for (int effect : effects) {
+            code += of(effect);
+        }
+        return code;
+    }
+
+    /**
+     * Gets how many times a hit applies an effect.
+     * @param code   The strategy code.
+     * @param effect The index of the effect.
+     * @return The multiplicity of the effect in the code.
+     */
+    public static int multiplicity(int code, int effect) {
+        return (code >>> (effect * BITS_PER_EFFECT)) & MULTIPLICITY_MASK;
+    }
+
+    /**
+     * Gets the first effect applied by a code.
+     * @param code The strategy code, other than BASIC.
+     * @return The lowest index of an effect of the code.
+     */
+    public static int firstEffect(int code) {
+        return Integer.numberOfTrailingZeros(code) / BITS_PER_EFFECT;
+    }
+
+    /**
+     * Gets the set of effects applied by a code.
+     * @param code The strategy code.
+     * @return A bitmask holding bit i if effect i is applied at least once.
+     */
+    public static int effectMask(int code) {
+        int mask = 0;
+        for (int effect = 0; effect < NUM_OF_EFFECTS; effect++) {
+            if (multiplicity(code, effect) > 0) {
+                mask |= 1 << effect;
+            }
+        }
+        return mask;
+    }
+
+    /**
+     * Checks whether a code applies more than one effect, or one effect more than once.
+     * @param code The strategy code.
+     * @return True if the code is a composed strategy, false otherwise.
+     */
+    public static boolean isComposed(int code) {
+        for (int effect = 0; effect < NUM_OF_EFFECTS; effect++) {
+            if (code == of(effect)) {
+                return false;
+            }
+        }
+        return code != BASIC;
+    }
+
+    /**
+     * Describes a code in words, such as "basic", "puck" or "puck+heart*2".
+     * @param code The strategy code.
+     * @return The description of the code.
+     */
+    public static String describe(int code) {
+        if (code == BASIC) {
+            return "basic";
+        }
+        StringBuilder description = new StringBuilder();
+        for (int effect = 0; effect < NUM_OF_EFFECTS; effect++) {
+            int multiplicity = multiplicity(code, effect);
+            if (multiplicity == 0) {
+                continue;
+            }
+            if (description.length() > 0) {
+                description.append('+');
+            }
+            description.append(EFFECT_NAMES[effect]);
+            if (multiplicity > 1) {
+                description.append('*').append(multiplicity);
+            }
+        }
+        return description.toString();
+    }
+}
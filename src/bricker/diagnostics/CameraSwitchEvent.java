@@ -0,0 +1,51 @@
+/**
+ * Package bricker.diagnostics contains the JDK Flight Recorder events of the game.
+ */
+package bricker.diagnostics;
+
+import jdk.jfr.Category;
+import jdk.jfr.Description;
+import jdk.jfr.Event;
+import jdk.jfr.Label;
+import jdk.jfr.Name;
+import jdk.jfr.StackTrace;
+
+/**
+ * The CameraSwitchEvent class is a Flight Recorder event for the game switching between the
+ * default camera and a camera that follows the ball.
+ * @author Shay Abbou & Shaked Hartal
+ */
+@Name("bricker.CameraSwitch")
+@Label("Camera Switch")
+@Category({"Bricker", "Camera"})
+@Description("The game switching between the default camera and a following camera")
+@StackTrace(false)
+public class CameraSwitchEvent extends Event {
+    /** What switched the camera. */
+    @Label("Cause")
+    public String cause;
+
+    /** Whether the camera follows the ball after the switch. */
+    @Label("Following")
+    public boolean following;
+
+    /** The number of collisions of the ball at the switch. */
+    @Label("Ball Collisions")
+    public int ballCollisions;
+
+    /**
+     * Records a camera switch, if the event is enabled.
+     * @param cause          What switched the camera.
+     * @param following      Whether the camera follows the ball after the switch.
+     * @param ballCollisions The number of collisions of the ball at the switch.
+     */
+    public static void switched(String cause, boolean following, int ballCollisions) {
+        CameraSwitchEvent event = new CameraSwitchEvent();
+        if (event.isEnabled()) {
+            event.cause = cause;
+            event.following = following;
+            event.ballCollisions = ballCollisions;
+            event.commit();
+        }
+    }
+}
@@ -0,0 +1,58 @@
+/**
+ * Package bricker.diagnostics contains the JDK Flight Recorder events of the game.
+ */
+package bricker.diagnostics;
+
+import jdk.jfr.Category;
+import jdk.jfr.Description;
+import jdk.jfr.Event;
+import jdk.jfr.Label;
+import jdk.jfr.Name;
+import jdk.jfr.StackTrace;
+
+/**
+ * The EntitySpawnEvent class is a Flight Recorder event for a collision strategy adding
+ * objects to the game, such as pucks, a heart or an extra paddle. The spawned objects are
+ * also tallied per thread whether or not the event is enabled, so a StrategyHitEvent can
+ * tell how many objects its strategy spawned.
+ * @author Shay Abbou & Shaked Hartal
+ */
+@Name("bricker.EntitySpawn")
+@Label("Entity Spawn")
+@Category({"Bricker", "Collisions"})
+@Description("A collision strategy adding objects to the game")
+@StackTrace(false)
+public class EntitySpawnEvent extends Event {
+    private static final ThreadLocal<long[]> SPAWNED = ThreadLocal.withInitial(() -> new long[1]);
+
+    /** The kind of the spawned objects. */
+    @Label("Entity")
+    public String entity;
+
+    /** The number of spawned objects. */
+    @Label("Count")
+    public int count;
+
+    /**
+     * Tallies spawned objects, and records an event for them if the event is enabled.
+     * @param entity The kind of the spawned objects.
+     * @param count  The number of spawned objects.
+     */
+    public static void spawned(String entity, int count) {
+        SPAWNED.get()[0] += count;
+        EntitySpawnEvent event = new EntitySpawnEvent();
+        if (event.isEnabled()) {
+            event.entity = entity;
+            event.count = count;
+            event.commit();
+        }
+    }
+
+    /**
+     * Gets the number of objects spawned on the calling thread so far.
+     * @return The number of spawned objects.
+     */
+    public static long spawnedOnThisThread() {
+        return SPAWNED.get()[0];
+    }
+}
@@ -0,0 +1,41 @@
+/**
+ * Package bricker.diagnostics contains the JDK Flight Recorder events of the game.
+ */
+package bricker.diagnostics;
+
+import jdk.jfr.Category;
+import jdk.jfr.Description;
+import jdk.jfr.Event;
+import jdk.jfr.Label;
+import jdk.jfr.Name;
+import jdk.jfr.StackTrace;
+
+/**
+ * The StrategyHitEvent class is a Flight Recorder event for the collision strategy of a brick
+ * handling a hit. Its duration is the time the strategy took, and it holds the strategy,
+ * with the effects of a combined strategy spelled out, and the number of objects the
+ * strategy spawned. When the event is not enabled, a hit costs a single check.
+ * @author Shay Abbou & Shaked Hartal
+ */
+@Name("bricker.StrategyHit")
+@Label("Brick Strategy Hit")
+@Category({"Bricker", "Collisions"})
+@Description("A collision strategy of a brick handling a hit")
+@StackTrace(false)
+public class StrategyHitEvent extends Event {
+    /** The simple class name of the strategy. */
+    @Label("Strategy Class")
+    public String strategyClass;
+
+    /** The effects of the strategy, as described by StrategyCodes. */
+    @Label("Strategy")
+    public String strategy;
+
+    /** The strategy code of the strategy. */
+    @Label("Strategy Code")
+    public int code;
+
+    /** The number of objects spawned while the strategy handled the hit. */
+    @Label("Spawned Objects")
+    public long spawned;
+}
@@ -0,0 +1,20 @@
+/**
+ * Package bricker.events contains the bus the game objects, the collision strategies and
+ * the game manager exchange game state changes through.
+ */
+package bricker.events;
+
+/**
+ * The GameEventListener interface is implemented by whatever reacts to a type of game
+ * event published on a GameEvents bus.
+ * @author Shay Abbou & Shaked Hartal
+ */
+@FunctionalInterface
+public interface GameEventListener {
+    /**
+     * Reacts to a game event.
+     * @param type    The type of the event, one of the event constants of GameEvents.
+     * @param payload The payload of the event, whose meaning depends on its type.
+     */
+    void onEvent(int type, int payload);
+}
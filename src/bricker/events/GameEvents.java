@@ -0,0 +1,129 @@
+/**
+ * Package bricker.events contains the bus the game objects, the collision strategies and
+ * the game manager exchange game state changes through.
+ */
+package bricker.events;
+
+import java.util.ArrayList;
+
+/**
+ * The GameEvents class is a single threaded bus of game state changes. Game objects and
+ * collision strategies publish an event when something changes, and the listeners of its
+ * type are called when the game manager dispatches the bus, once per simulation step, so
+ * nothing has to poll the state of the game every frame.
+ * An event is a type and an int payload, kept in a ring buffer of ints, so publishing and
+ * dispatching do not allocate.
+ * @author Shay Abbou & Shaked Hartal
+ */
+public class GameEvents {
+    /** A brick was removed from the brick field. The payload is the number of bricks left. */
+    public static final int BRICK_DESTROYED = 0;
+    /** The main ball fell below the window. The payload is unused. */
+    public static final int BALL_LOST = 1;
+    /** A heart was caught by the paddle. The payload is unused. */
+    public static final int LIFE_GAINED = 2;
+    /** The camera started following the main ball. The payload is the ball's collisions. */
+    public static final int CAMERA_ACTIVATED = 3;
+    /** The main ball bounced off something. The payload is the ball's collisions. */
+    public static final int BALL_BOUNCED = 4;
+    /** The number of event types. */
+    public static final int NUM_OF_TYPES = 5;
+    private static final int DEFAULT_CAPACITY = 256;
+    private final int[] ring;
+    private final int mask;
+    private final ArrayList<ArrayList<GameEventListener>> listeners = new ArrayList<>();
+    private int head, tail;
+    private boolean dispatching;
+
+    /**
+     * Constructs an empty GameEvents bus that holds up to 256 pending events.
+     */
+    public GameEvents() {
+        this(DEFAULT_CAPACITY);
+    }
+
+    /**
+     * Constructs an empty GameEvents bus.
+     * @param capacity The number of pending events the bus holds, a power of two.
+     * @throws IllegalArgumentException If the capacity is not a power of two.
+     */
+    public GameEvents(int capacity) {
+        if (capacity <= 0 || Integer.bitCount(capacity) != 1) {
+            throw new IllegalArgumentException("Capacity is not a power of two: " + capacity);
+        }
+        ring = new int[2 * capacity];
+        mask = capacity - 1;
+        for (int type = 0; type < NUM_OF_TYPES; type++) {
+            listeners.add(new ArrayList<>());
+        }
+    }
+
+    /**
+     * Calls a listener on every following event of a type.
+     * @param type     The type of the events, one of the event constants.
+     * @param listener The listener.
+     */
+    public void subscribe(int type, GameEventListener listener) {
+        listeners.get(type).add(listener);
+    }
+
+    /**
+     * Publishes an event, to be passed to the listeners of its type on the next dispatch.
+     * A full bus is dispatched first.
+     * @param type    The type of the event, one of the event constants.
+     * @param payload The payload of the event.
+     * @throws IllegalStateException If the bus fills up while it is being dispatched.
+     */
+    public void publish(int type, int payload) {
+        if (tail - head > mask) {
+            if (dispatching) {
+                throw new IllegalStateException("Game event bus overflow");
+            }
+            dispatch();
+        }
+        int slot = 2 * (tail & mask);
+        ring[slot] = type;
+        ring[slot + 1] = payload;
+        tail++;
+    }
+
+    /**
+     * Passes every pending event, including those published by the listeners meanwhile, to
+     * the listeners of its type, in the order the events were published.
+     */
+    public void dispatch() {
+        if (dispatching) {
+            return;
+        }
+        dispatching = true;
+        try {
+            while (head != tail) {
+                int slot = 2 * (head & mask);
+                int type = ring[slot];
+                int payload = ring[slot + 1];
+                head++;
+                ArrayList<GameEventListener> typeListeners = listeners.get(type);
+                for (int i = 0; i < typeListeners.size(); i++) {
+                    typeListeners.get(i).onEvent(type, payload);
+                }
+            }
+        } finally {
+            dispatching = false;
+        }
+    }
+
+    /**
+     * Drops every pending event without dispatching it.
+     */
+    public void clear() {
+        head = tail;
+    }
+
+    /**
+     * Gets the number of events published and not dispatched yet.
+     * @return The number of pending events.
+     */
+    public int getPendingCount() {
+        return tail - head;
+    }
+}
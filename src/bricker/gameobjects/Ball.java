@@ -4,9 +4,10 @@
  */
 package bricker.gameobjects;
 
+import bricker.assets.SoundCue;
+import bricker.events.GameEvents;
 import danogl.GameObject;
 import danogl.collisions.Collision;
-import danogl.gui.Sound;
 import danogl.gui.rendering.Renderable;
 import danogl.util.Vector2;
 
@@ -15,9 +16,12 @@ import danogl.util.Vector2;
  * It extends the base GameObject class and handles collisions with other game objects.
  * @author Shay Abbou & Shaked Hartal
  */
-public class Ball extends GameObject {
+public class Ball extends GameObject implements Categorized {
     private int collisionCounter;
-    private Sound collisionSound;
+    private SoundCue collisionSound;
+    private Vector2 previousTopLeftCorner;
+    private GameEvents events;
+    private float fallLine;
 
     /**
      * Constructs a Ball object with the specified parameters.
@@ -25,11 +29,67 @@ public class Ball extends GameObject {
      * @param dimensions       The width and height of the ball in window coordinates.
      * @param renderable       The renderable representing the ball.
      * @param collisionSound   The sound to play upon collision with other game objects.
+     *                         Can be null if the ball should be silent.
      */
     public Ball(Vector2 topLeftCorner, Vector2 dimensions, Renderable renderable,
-                Sound collisionSound) {
+                SoundCue collisionSound) {
         super(topLeftCorner, dimensions, renderable);
         this.collisionSound = collisionSound;
+        this.previousTopLeftCorner = topLeftCorner;
+    }
+
+    /**
+     * Makes the ball publish its bounces as BALL_BOUNCED events, and a fall of its center
+     * below the given line as a BALL_LOST event. Used for the main ball of the game.
+     * @param events   The bus to publish on.
+     * @param fallLine The height below which the ball is lost, in window coordinates.
+     */
+    public void publishTo(GameEvents events, float fallLine) {
+        this.events = events;
+        this.fallLine = fallLine;
+    }
+
+    /**
+     * Moves the ball, remembering where it started the frame so its move can be swept
+     * for collisions.
+     * @param deltaTime The time elapsed, in seconds, since the last frame.
+     */
+    @Override
+    public void update(float deltaTime) {
+        previousTopLeftCorner = getTopLeftCorner();
+        super.update(deltaTime);
+        if (events != null && getCenter().y() > fallLine) {
+            events.publish(GameEvents.BALL_LOST, 0);
+        }
+    }
+
+    /**
+     * Tells the engine to collide the ball only with the categories of its mask. Its
+     * collisions with paddles, borders and bricks are swept by SweptCollider instead.
+     * @param other The other game object.
+     * @return True if the other game object is in the collision mask of the ball.
+     */
+    @Override
+    public boolean shouldCollideWith(GameObject other) {
+        return CollisionCategories.collides(this, other);
+    }
+
+    /**
+     * Gets the category of the ball.
+     * @return CollisionCategories.BALL.
+     */
+    @Override
+    public int getCategory() {
+        return CollisionCategories.BALL;
+    }
+
+    /**
+     * Gets the categories the ball collides with: the main ball and the pucks.
+     * @return CollisionCategories.BALLS.
+     */
+    @Override
+    public int getCollisionMask() {
+        return CollisionCategories.BALLS;
     }
 
     /**
@@ -42,10 +102,25 @@ public class Ball extends GameObject {
     @Override
     public void onCollisionEnter(GameObject other, Collision collision) {
         super.onCollisionEnter(other, collision);
-        Vector2 newVel = getVelocity().flipped(collision.getNormal());
+        bounce(collision.getNormal());
+    }
+
+    /**
+     * Bounces the ball off a surface: flips its velocity along the given normal, plays the
+     * collision sound and increments the collision counter, publishing a BALL_BOUNCED
+     * event if the ball publishes its events.
+     * @param normal The normal of the surface the ball collided with.
+     */
+    public void bounce(Vector2 normal) {
+        Vector2 newVel = getVelocity().flipped(normal);
         setVelocity(newVel);
-        collisionSound.play();
+        if (collisionSound != null) {
+            collisionSound.play();
+        }
         collisionCounter++;
+        if (events != null) {
+            events.publish(GameEvents.BALL_BOUNCED, collisionCounter);
+        }
     }
     /**
      * Gets the current collision counter value.
@@ -54,4 +129,27 @@ public class Ball extends GameObject {
     public int getCollisionCounter(){
         return collisionCounter;
     }
+
+    /**
+     * Gets the position of the ball at the start of the current frame.
+     * @return The top left corner of the ball before it moved this frame.
+     */
+    Vector2 getPreviousTopLeftCorner() {
+        return previousTopLeftCorner;
+    }
+
+    /**
+     * Sets the collision counter, for a ball restored from a saved game.
+     * @param collisionCounter The number of collisions the ball has encountered.
+     */
+    public void setCollisionCounter(int collisionCounter){
+        this.collisionCounter = collisionCounter;
+    }
+
+    /**
+     * Resets the collision counter, for a ball that is reused.
+     */
+    protected void resetCollisionCounter(){
+        collisionCounter = 0;
+    }
 }
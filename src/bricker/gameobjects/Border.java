@@ -0,0 +1,56 @@
+/**
+ * Package bricker.gameobjects contains classes of different
+ * game objects.
+ */
+package bricker.gameobjects;
+
+import danogl.GameObject;
+import danogl.gui.rendering.Renderable;
+import danogl.util.Vector2;
+
+/**
+ * The Border class represents a border of the game window, which balls bounce off.
+ * The bounces are swept by SweptCollider, so the engine never tests a border.
+ * @author Shay Abbou & Shaked Hartal
+ */
+public class Border extends GameObject implements Categorized {
+
+    /**
+     * Constructs a Border with the specified parameters.
+     * @param topLeftCorner The position of the border, in window coordinates (pixels).
+     * @param dimensions    The width and height of the border in window coordinates.
+     * @param renderable    The renderable representing the border. Can be null if the
+     *                      border should not be rendered.
+     */
+    public Border(Vector2 topLeftCorner, Vector2 dimensions, Renderable renderable) {
+        super(topLeftCorner, dimensions, renderable);
+    }
+
+    /**
+     * Tells the engine never to collide the border.
+     * @param other The other game object.
+     * @return False.
+     */
+    @Override
+    public boolean shouldCollideWith(GameObject other) {
+        return CollisionCategories.collides(this, other);
+    }
+
+    /**
+     * Gets the category of the border.
+     * @return CollisionCategories.BORDER.
+     */
+    @Override
+    public int getCategory() {
+        return CollisionCategories.BORDER;
+    }
+
+    /**
+     * Gets the categories the border collides with through the engine: none.
+     * @return CollisionCategories.NONE.
+     */
+    @Override
+    public int getCollisionMask() {
+        return CollisionCategories.NONE;
+    }
+}
@@ -5,6 +5,9 @@
 package bricker.gameobjects;
 
 import bricker.brick_strategies.CollisionStrategy;
+import bricker.brick_strategies.StrategyCodes;
+import bricker.diagnostics.EntitySpawnEvent;
+import bricker.diagnostics.StrategyHitEvent;
 import danogl.GameObject;
 import danogl.collisions.Collision;
 import danogl.gui.rendering.Renderable;
@@ -13,12 +16,14 @@ import danogl.util.Vector2;
 /**
  * The Brick class represents a game object that serves as a brick within the game.
  * It extends the base GameObject class and delegates collision handling to a specified
- * CollisionStrategy.
+ * CollisionStrategy. A BrickField reuses a single Brick for all of its bricks, binding it
+ * to the hit cell before handing it to the cell's CollisionStrategy.
  * @author Shay Abbou & Shaked Hartal
  */
-public class Brick extends GameObject {
+public class Brick extends GameObject implements Categorized {
 
     private CollisionStrategy collisionStrategy;
+    private int cellIndex = -1;
 
     /**
      * Constructs a Brick object with the specified parameters.
@@ -43,6 +48,69 @@ public class Brick extends GameObject {
     @Override
     public void onCollisionEnter(GameObject other, Collision collision) {
         super.onCollisionEnter(other, collision);
+        hit(other);
+    }
+
+    /**
+     * Handles a hit by another game object, as detected by the engine or by a BrickField,
+     * by delegating it to the specified CollisionStrategy. The hit is recorded as a
+     * StrategyHitEvent when Flight Recorder records it.
+     * @param other The other game object that hit the brick.
+     */
+    public void hit(GameObject other) {
+        StrategyHitEvent event = new StrategyHitEvent();
+        if (!event.isEnabled()) {
+            collisionStrategy.onCollision(this, other);
+            return;
+        }
+        long spawnedBefore = EntitySpawnEvent.spawnedOnThisThread();
+        event.begin();
         collisionStrategy.onCollision(this, other);
+        event.end();
+        if (event.shouldCommit()) {
+            event.strategyClass = collisionStrategy.getClass().getSimpleName();
+            event.code = collisionStrategy.getCode();
+            event.strategy = StrategyCodes.describe(event.code);
+            event.spawned = EntitySpawnEvent.spawnedOnThisThread() - spawnedBefore;
+            event.commit();
+        }
+    }
+
+    /**
+     * Gets the index of the BrickField cell the brick is bound to.
+     * @return The cell index, or -1 if the brick is not bound to a cell.
+     */
+    int getCellIndex() {
+        return cellIndex;
+    }
+
+    /**
+     * Binds the brick to a BrickField cell.
+     * @param cellIndex         The index of the cell.
+     * @param topLeftCorner     The position of the brick of the cell.
+     * @param collisionStrategy The collision strategy of the brick of the cell.
+     */
+    void bind(int cellIndex, Vector2 topLeftCorner, CollisionStrategy collisionStrategy) {
+        this.cellIndex = cellIndex;
+        this.collisionStrategy = collisionStrategy;
+        setTopLeftCorner(topLeftCorner);
+    }
+
+    /**
+     * Gets the category of the brick.
+     * @return CollisionCategories.BRICK.
+     */
+    @Override
+    public int getCategory() {
+        return CollisionCategories.BRICK;
+    }
+
+    /**
+     * Gets the categories the brick collides with: the main ball and the pucks.
+     * @return CollisionCategories.BALLS.
+     */
+    @Override
+    public int getCollisionMask() {
+        return CollisionCategories.BALLS;
     }
 }
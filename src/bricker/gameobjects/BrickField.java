@@ -0,0 +1,497 @@
+/**
+ * Package bricker.gameobjects contains classes of different
+ * game objects.
+ */
+package bricker.gameobjects;
+
+import bricker.brick_strategies.CollisionStrategy;
+import bricker.util.FrameProfiler;
+import danogl.GameObject;
+import danogl.collisions.Layer;
+import danogl.gui.rendering.Renderable;
+import danogl.util.Vector2;
+import java.awt.AlphaComposite;
+import java.awt.Composite;
+import java.awt.Graphics2D;
+import java.awt.image.BufferedImage;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.IdentityHashMap;
+
+/**
+ * The BrickField class represents the whole brick wall of a level as a single game object.
+ * The bricks are laid out on a regular grid of equally sized bricks separated by a fixed
+ * gap, and are stored in primitive arrays: the position of every brick, an alive bit and
+ * the id of its collision strategy in a table of the distinct strategies of the level.
+ * This takes about ten bytes per brick, where a Brick game object takes hundreds.
+ * The field draws its alive bricks once into an offscreen image, which is drawn as a
+ * single image every frame; a destroyed brick only clears its own cell of the image. While
+ * a viewport is set, only the part of the image under it is drawn. It
+ * finds the bricks in the path of a ball by cell lookup, so the cost of a ball does not
+ * depend on the number of bricks.
+ * Hits are dispatched through a single reusable Brick, bound to the hit cell, so the
+ * collision strategies keep seeing a brick game object.
+ * @author Shay Abbou & Shaked Hartal
+ */
+public class BrickField extends GameObject {
+    /**
+     * The layer of the brick field. It is drawn like the static objects, but the engine
+     * does not test it for collisions with the default layer.
+     */
+    public static final int LAYER = Layer.STATIC_OBJECTS + 1;
+    private final float originX, originY;
+    private final float brickWidth, brickHeight;
+    private final float cellWidth, cellHeight;
+    private final int rows, cols;
+    private final float[] brickX, brickY;
+    private final short[] strategyIds;
+    private final long[] alive;
+    private final ArrayList<CollisionStrategy> strategies = new ArrayList<>();
+    private final IdentityHashMap<CollisionStrategy, Integer> strategyIdsByStrategy =
+            new IdentityHashMap<>();
+    private final Brick cursor;
+    private final FrameProfiler profiler;
+    private final BrickFieldRenderable renderable;
+    private int aliveCount;
+    private int[] brokenCounts = new int[1];
+    private boolean viewportSet;
+    private int firstVisibleRow, lastVisibleRow, firstVisibleCol, lastVisibleCol;
+
+    /**
+     * Constructs an empty BrickField with the specified layout.
+     * @param topLeftCorner   The position of the top left brick, in window coordinates.
+     * @param brickDimensions The width and height of every brick.
+     * @param gap             The space between two neighbouring bricks.
+     * @param rows            The number of rows of the field.
+     * @param cols            The number of bricks in each row.
+     * @param brickImage      The renderable representing a single brick. Can be null if
+     *                        the bricks should not be rendered.
+     * @param profiler        The profiler that times the collision strategies of hit bricks.
+     *                        Can be null if they should not be timed.
+     */
+    public BrickField(Vector2 topLeftCorner, Vector2 brickDimensions, float gap,
+                      int rows, int cols, Renderable brickImage, FrameProfiler profiler) {
+        super(topLeftCorner, new Vector2(cols * (brickDimensions.x() + gap) - gap,
+                rows * (brickDimensions.y() + gap) - gap), null);
+        this.originX = topLeftCorner.x();
+        this.originY = topLeftCorner.y();
+        this.brickWidth = brickDimensions.x();
+        this.brickHeight = brickDimensions.y();
+        this.cellWidth = brickWidth + gap;
+        this.cellHeight = brickHeight + gap;
+        this.rows = rows;
+        this.cols = cols;
+        this.brickX = new float[rows * cols];
+        this.brickY = new float[rows * cols];
+        this.strategyIds = new short[rows * cols];
+        this.alive = new long[(rows * cols + Long.SIZE - 1) / Long.SIZE];
+        this.cursor = new Brick(topLeftCorner, brickDimensions, null, null);
+        this.profiler = profiler;
+        this.renderable = brickImage != null ? new BrickFieldRenderable(brickImage) : null;
+        if (renderable != null) {
+            renderer().setRenderable(renderable);
+        }
+    }
+
+    /**
+     * Places a brick in the given cell.
+     * @param row               The row of the cell.
+     * @param col               The column of the cell.
+     * @param collisionStrategy The collision strategy of the brick.
+     */
+    public void add(int row, int col, CollisionStrategy collisionStrategy) {
+        int index = row * cols + col;
+        brickX[index] = originX + col * cellWidth;
+        brickY[index] = originY + row * cellHeight;
+        strategyIds[index] = strategyId(collisionStrategy);
+        if (!isAlive(index)) {
+            alive[index / Long.SIZE] |= 1L << index;
+            aliveCount++;
+        }
+        if (renderable != null) {
+            renderable.redrawCell(row, col);
+        }
+    }
+
+    /**
+     * Removes every brick and forgets how many bricks of each strategy were broken, so the
+     * field can be filled again for a new game. The layout, the strategy table and the
+     * arrays are kept, and the cached image is drawn again in a single pass on the next
+     * render, rather than a cell at a time while the field is filled.
+     */
+    public void clear() {
+        Arrays.fill(alive, 0);
+        aliveCount = 0;
+        Arrays.fill(brokenCounts, 0);
+        if (renderable != null) {
+            renderable.invalidate();
+        }
+    }
+
+    /**
+     * Destroys the brick a collision strategy was handed, if it is a brick of this field.
+     * Other game objects are ignored.
+     * @param brick The brick handed to the collision strategy.
+     * @return True if a brick was destroyed, false if it was not a brick of this field or
+     *         was already destroyed.
+     */
+    public boolean remove(GameObject brick) {
+        if (brick != cursor) {
+            return false;
+        }
+        int index = cursor.getCellIndex();
+        if (!isAlive(index)) {
+            return false;
+        }
+        alive[index / Long.SIZE] &= ~(1L << index);
+        aliveCount--;
+        brokenCounts[strategyIds[index]]++;
+        if (renderable != null) {
+            renderable.redrawCell(index / cols, index % cols);
+        }
+        return true;
+    }
+
+    /**
+     * Hits the brick of the given cell with another game object, by handing the brick
+     * to its collision strategy.
+     * @param index The index of the cell, row * cols + col.
+     * @param other The game object that hit the brick.
+     */
+    public void hit(int index, GameObject other) {
+        cursor.bind(index, new Vector2(brickX[index], brickY[index]),
+                strategies.get(strategyIds[index]));
+        if (profiler == null) {
+            cursor.hit(other);
+            return;
+        }
+        long startTime = System.nanoTime();
+        cursor.hit(other);
+        profiler.record(FrameProfiler.STRATEGY, startTime);
+    }
+
+    /**
+     * Gets the number of words of the alive bits of the cells, 64 cells a word.
+     * @return The number of words copied by copyAliveWords.
+     */
+    public int getAliveWordCount() {
+        return alive.length;
+    }
+
+    /**
+     * Copies the alive bits of the cells, 64 cells a word, the lowest cell in the lowest
+     * bit, without allocating.
+     * @param words The array to copy into, of at least getAliveWordCount words.
+     */
+    public void copyAliveWords(long[] words) {
+        System.arraycopy(alive, 0, words, 0, alive.length);
+    }
+
+    /**
+     * Gets the number of bricks that were not destroyed yet.
+     * @return The number of alive bricks.
+     */
+    public int getAliveCount() {
+        return aliveCount;
+    }
+
+    /**
+     * Gets the number of cells of the field.
+     * @return rows * cols.
+     */
+    public int getCellCount() {
+        return rows * cols;
+    }
+
+    /**
+     * Gets the number of rows of the field.
+     * @return The number of rows.
+     */
+    public int getRows() {
+        return rows;
+    }
+
+    /**
+     * Gets the number of bricks in each row of the field.
+     * @return The number of columns.
+     */
+    public int getCols() {
+        return cols;
+    }
+
+    /**
+     * Gets the dimensions of every brick of the field.
+     * @return The width and height of a brick.
+     */
+    public Vector2 getBrickDimensions() {
+        return new Vector2(brickWidth, brickHeight);
+    }
+
+    /**
+     * Gets the space between two neighbouring bricks.
+     * @return The gap.
+     */
+    public float getGap() {
+        return cellWidth - brickWidth;
+    }
+
+    /**
+     * Checks whether the brick of a cell was placed and not destroyed yet.
+     * @param index The index of the cell, row * cols + col.
+     * @return True if the cell holds an alive brick, false otherwise.
+     */
+    public boolean isAlive(int index) {
+        return (alive[index / Long.SIZE] & (1L << index)) != 0;
+    }
+
+    /**
+     * Gets the collision strategy of the brick of a cell.
+     * @param index The index of the cell, row * cols + col.
+     * @return The collision strategy, or null if the cell holds no alive brick.
+     */
+    public CollisionStrategy getStrategy(int index) {
+        return isAlive(index) ? strategies.get(strategyIds[index]) : null;
+    }
+
+    /**
+     * Gets the number of distinct collision strategies of the bricks placed in the field.
+     * The strategies are numbered from 0 in the order they were first placed.
+     * @return The number of distinct strategies.
+     */
+    public int getDistinctStrategyCount() {
+        return strategies.size();
+    }
+
+    /**
+     * Gets a distinct collision strategy of the bricks placed in the field.
+     * @param id The number of the strategy, below getDistinctStrategyCount.
+     * @return The collision strategy.
+     */
+    public CollisionStrategy getDistinctStrategy(int id) {
+        return strategies.get(id);
+    }
+
+    /**
+     * Gets the number of destroyed bricks that had a distinct collision strategy.
+     * @param id The number of the strategy, below getDistinctStrategyCount.
+     * @return The number of destroyed bricks of the strategy.
+     */
+    public int getBrokenCount(int id) {
+        return brokenCounts[id];
+    }
+
+    private short strategyId(CollisionStrategy collisionStrategy) {
+        Integer id = strategyIdsByStrategy.get(collisionStrategy);
+        if (id == null) {
+            if (strategies.size() > Short.MAX_VALUE) {
+                throw new IllegalStateException("Too many distinct brick strategies");
+            }
+            id = strategies.size();
+            strategies.add(collisionStrategy);
+            if (brokenCounts.length < strategies.size()) {
+                brokenCounts = Arrays.copyOf(brokenCounts, brokenCounts.length * 2);
+            }
+            strategyIdsByStrategy.put(collisionStrategy, id);
+        }
+        return id.shortValue();
+    }
+
+    /**
+     * Sweeps a moving box against the alive bricks of the cells its path crosses, keeping
+     * the earliest contact.
+     * @param left    The left of the moving box at the start of its path.
+     * @param top     The top of the moving box at the start of its path.
+     * @param width   The width of the moving box.
+     * @param height  The height of the moving box.
+     * @param dx      The horizontal length of the path.
+     * @param dy      The vertical length of the path.
+     * @param contact The earliest contact so far, updated with an earlier brick contact.
+     */
+    void sweep(float left, float top, float width, float height, float dx, float dy,
+               Contact contact) {
+        float pathLeft = Math.min(left, left + dx);
+        float pathTop = Math.min(top, top + dy);
+        float pathRight = Math.max(left, left + dx) + width;
+        float pathBottom = Math.max(top, top + dy) + height;
+        int firstCol = Math.max(0, (int) Math.floor((pathLeft - originX) / cellWidth));
+        int lastCol = Math.min(cols - 1, (int) Math.floor((pathRight - originX) / cellWidth));
+        int firstRow = Math.max(0, (int) Math.floor((pathTop - originY) / cellHeight));
+        int lastRow = Math.min(rows - 1, (int) Math.floor((pathBottom - originY) / cellHeight));
+        for (int row = firstRow; row <= lastRow; row++) {
+            for (int col = firstCol; col <= lastCol; col++) {
+                int index = row * cols + col;
+                if (isAlive(index) && contact.sweep(left, top, width, height, dx, dy,
+                        brickX[index], brickY[index], brickWidth, brickHeight)) {
+                    contact.target = null;
+                    contact.brickIndex = index;
+                }
+            }
+        }
+    }
+
+    /**
+     * Limits drawing to the cells under a rectangle of the world, such as the view of a
+     * following camera, until clearViewport is called.
+     * @param left   The left of the rectangle.
+     * @param top    The top of the rectangle.
+     * @param right  The right of the rectangle.
+     * @param bottom The bottom of the rectangle.
+     */
+    public void setViewport(float left, float top, float right, float bottom) {
+        firstVisibleCol = Math.max(0, (int) Math.floor((left - originX) / cellWidth));
+        lastVisibleCol = Math.min(cols - 1, (int) Math.floor((right - originX) / cellWidth));
+        firstVisibleRow = Math.max(0, (int) Math.floor((top - originY) / cellHeight));
+        lastVisibleRow = Math.min(rows - 1, (int) Math.floor((bottom - originY) / cellHeight));
+        viewportSet = true;
+    }
+
+    /**
+     * Draws the whole field again, after setViewport.
+     */
+    public void clearViewport() {
+        viewportSet = false;
+    }
+
+    private int nextAlive(int from) {
+        int word = from / Long.SIZE;
+        if (word >= alive.length) {
+            return -1;
+        }
+        long bits = alive[word] & (-1L << from);
+        while (bits == 0) {
+            if (++word == alive.length) {
+                return -1;
+            }
+            bits = alive[word];
+        }
+        return word * Long.SIZE + Long.numberOfTrailingZeros(bits);
+    }
+
+    /**
+     * Draws the field from a cached image of its alive bricks, in world coordinates,
+     * scaling it to the area it is drawn in. The cache is drawn on first use, and a cell
+     * whose brick is placed or destroyed is redrawn in it alone. A field too large to cache
+     * draws every alive brick instead.
+     */
+    private class BrickFieldRenderable implements Renderable {
+        private static final long MAX_CACHED_PIXELS = 1L << 24;
+        private final Renderable brickImage;
+        private BufferedImage cache;
+
+        BrickFieldRenderable(Renderable brickImage) {
+            this.brickImage = brickImage;
+        }
+
+        @Override
+        public void render(Graphics2D g, Vector2 topLeftCorner, Vector2 dimensions,
+                           double degreesCounterClockwise, boolean isFlippedHorizontally,
+                           boolean isFlippedVertically, double opaqueness) {
+            int firstRow = 0, lastRow = rows - 1, firstCol = 0, lastCol = cols - 1;
+            if (viewportSet) {
+                firstRow = firstVisibleRow;
+                lastRow = lastVisibleRow;
+                firstCol = firstVisibleCol;
+                lastCol = lastVisibleCol;
+                if (firstRow > lastRow || firstCol > lastCol) {
+                    return;
+                }
+            }
+            if (cache == null && !createCache()) {
+                renderBricks(g, topLeftCorner, dimensions, opaqueness,
+                        firstRow, lastRow, firstCol, lastCol);
+                return;
+            }
+            float scaleX = dimensions.x() / getDimensions().x();
+            float scaleY = dimensions.y() / getDimensions().y();
+            int left = viewportSet ? (int) Math.floor(firstCol * cellWidth) : 0;
+            int top = viewportSet ? (int) Math.floor(firstRow * cellHeight) : 0;
+            int right = viewportSet ? Math.min(cache.getWidth(),
+                    (int) Math.ceil((lastCol + 1) * cellWidth)) : cache.getWidth();
+            int bottom = viewportSet ? Math.min(cache.getHeight(),
+                    (int) Math.ceil((lastRow + 1) * cellHeight)) : cache.getHeight();
+            Composite composite = g.getComposite();
+            if (opaqueness < 1) {
+                g.setComposite(AlphaComposite.getInstance(AlphaComposite.SRC_OVER,
+                        (float) opaqueness));
+            }
+            g.drawImage(cache,
+                    Math.round(topLeftCorner.x() + left * scaleX),
+                    Math.round(topLeftCorner.y() + top * scaleY),
+                    Math.round(topLeftCorner.x() + right * scaleX),
+                    Math.round(topLeftCorner.y() + bottom * scaleY),
+                    left, top, right, bottom, null);
+            g.setComposite(composite);
+        }
+
+        /**
+         * Drops the cached image, so it is drawn again on the next render.
+         */
+        void invalidate() {
+            cache = null;
+        }
+
+        /**
+         * Clears a cell of the cached image, and draws the alive bricks that overlap it
+         * back, including those of the neighbouring cells. Does nothing before the cache
+         * is drawn.
+         */
+        void redrawCell(int row, int col) {
+            if (cache == null) {
+                return;
+            }
+            int left = (int) Math.floor(col * cellWidth);
+            int top = (int) Math.floor(row * cellHeight);
+            int width = (int) Math.ceil((col + 1) * cellWidth) - left;
+            int height = (int) Math.ceil((row + 1) * cellHeight) - top;
+            Graphics2D g = cache.createGraphics();
+            g.setClip(left, top, width, height);
+            g.setComposite(AlphaComposite.Clear);
+            g.fillRect(left, top, width, height);
+            g.setComposite(AlphaComposite.SrcOver);
+            Vector2 brickDimensions = new Vector2(brickWidth, brickHeight);
+            for (int r = Math.max(0, row - 1); r <= Math.min(rows - 1, row + 1); r++) {
+                for (int c = Math.max(0, col - 1); c <= Math.min(cols - 1, col + 1); c++) {
+                    int index = r * cols + c;
+                    if (isAlive(index)) {
+                        brickImage.render(g, new Vector2(brickX[index] - originX,
+                                brickY[index] - originY), brickDimensions, 0,
+                                false, false, 1);
+                    }
+                }
+            }
+            g.dispose();
+        }
+
+        private boolean createCache() {
+            int width = (int) Math.ceil(getDimensions().x());
+            int height = (int) Math.ceil(getDimensions().y());
+            if (width <= 0 || height <= 0 || (long) width * height > MAX_CACHED_PIXELS) {
+                return false;
+            }
+            cache = new BufferedImage(width, height, BufferedImage.TYPE_INT_ARGB);
+            Graphics2D g = cache.createGraphics();
+            renderBricks(g, new Vector2(0, 0), getDimensions(), 1, 0, rows - 1, 0, cols - 1);
+            g.dispose();
+            return true;
+        }
+
+        private void renderBricks(Graphics2D g, Vector2 topLeftCorner, Vector2 dimensions,
+                                  double opaqueness, int firstRow, int lastRow,
+                                  int firstCol, int lastCol) {
+            float scaleX = dimensions.x() / getDimensions().x();
+            float scaleY = dimensions.y() / getDimensions().y();
+            Vector2 brickDimensions = new Vector2(brickWidth * scaleX, brickHeight * scaleY);
+            for (int row = firstRow; row <= lastRow; row++) {
+                int last = row * cols + lastCol;
+                for (int i = nextAlive(row * cols + firstCol); i >= 0 && i <= last;
+                     i = nextAlive(i + 1)) {
+                    Vector2 brickTopLeftCorner = new Vector2(
+                            topLeftCorner.x() + (brickX[i] - originX) * scaleX,
+                            topLeftCorner.y() + (brickY[i] - originY) * scaleY);
+                    brickImage.render(g, brickTopLeftCorner, brickDimensions, 0,
+                            false, false, opaqueness);
+                }
+            }
+        }
+    }
+}
@@ -0,0 +1,25 @@
+/**
+ * Package bricker.gameobjects contains classes of different
+ * game objects.
+ */
+package bricker.gameobjects;
+
+/**
+ * The Categorized interface is implemented by the game objects that take part in
+ * collisions. Each declares the category bit of its type, and the mask of the categories
+ * it collides with, from CollisionCategories.
+ * @author Shay Abbou & Shaked Hartal
+ */
+public interface Categorized {
+    /**
+     * Gets the category of the game object.
+     * @return A single category bit of CollisionCategories.
+     */
+    int getCategory();
+
+    /**
+     * Gets the categories the game object collides with.
+     * @return The categories, or'ed together.
+     */
+    int getCollisionMask();
+}
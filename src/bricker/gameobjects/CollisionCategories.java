@@ -0,0 +1,71 @@
+/**
+ * Package bricker.gameobjects contains classes of different
+ * game objects.
+ */
+package bricker.gameobjects;
+
+import danogl.GameObject;
+
+/**
+ * The CollisionCategories class holds the category bits of the game object types that take
+ * part in collisions. A pair of game objects collides only if each is in a category of the
+ * mask of the other, which is checked with a couple of bitwise ands before the engine
+ * tests the pair, so pairs such as puck and puck, or heart and ball, are never tested.
+ * @author Shay Abbou & Shaked Hartal
+ */
+public final class CollisionCategories {
+    /** The category of game objects that do not collide, such as UI objects. */
+    public static final int NONE = 0;
+    /** The category of the main ball. */
+    public static final int BALL = 1;
+    /** The category of the pucks. */
+    public static final int PUCK = 1 << 1;
+    /** The category of the user paddle. */
+    public static final int PADDLE = 1 << 2;
+    /** The category of the extra paddles. */
+    public static final int EXTRA_PADDLE = 1 << 3;
+    /** The category of the borders of the window. */
+    public static final int BORDER = 1 << 4;
+    /** The category of the hearts. */
+    public static final int HEART = 1 << 5;
+    /** The category of the bricks. */
+    public static final int BRICK = 1 << 6;
+    /** The categories of the objects that bounce off bricks, paddles and borders. */
+    public static final int BALLS = BALL | PUCK;
+    /** The categories of the objects balls bounce off, swept by SweptCollider. */
+    public static final int SOLIDS = PADDLE | EXTRA_PADDLE | BORDER;
+
+    private CollisionCategories() {
+    }
+
+    /**
+     * Gets the category of a game object.
+     * @param gameObject The game object.
+     * @return Its category, or NONE if it does not declare one.
+     */
+    public static int of(GameObject gameObject) {
+        return gameObject instanceof Categorized ?
+                ((Categorized) gameObject).getCategory() : NONE;
+    }
+
+    /**
+     * Checks whether a game object is in any of the given categories.
+     * @param gameObject The game object.
+     * @param categories The categories, or'ed together.
+     * @return True if the game object is in one of the categories, false otherwise.
+     */
+    public static boolean isIn(GameObject gameObject, int categories) {
+        return (of(gameObject) & categories) != 0;
+    }
+
+    /**
+     * Checks whether a game object collides with another, by the mask of the first and
+     * the category of the second.
+     * @param self  The game object whose collisions are filtered.
+     * @param other The other game object.
+     * @return True if the other game object is in the mask of the first, false otherwise.
+     */
+    public static boolean collides(Categorized self, GameObject other) {
+        return (self.getCollisionMask() & of(other)) != 0;
+    }
+}
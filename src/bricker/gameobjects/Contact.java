@@ -0,0 +1,104 @@
+/**
+ * Package bricker.gameobjects contains classes of different
+ * game objects.
+ */
+package bricker.gameobjects;
+
+import danogl.GameObject;
+import danogl.util.Vector2;
+
+/**
+ * The Contact class finds the earliest contact of a box moving along a straight segment
+ * with a set of boxes that stand still, by swept AABB time of impact. A box that moves too
+ * is swept with the segment relative to its own move. It is reused for every sweep, so
+ * sweeping does not allocate.
+ * @author Shay Abbou & Shaked Hartal
+ */
+final class Contact {
+    /** The time of the earliest contact, as a fraction of the segment, or above 1. */
+    float time;
+    /** True if the earliest contact is with a vertical side, false for a horizontal one. */
+    boolean vertical;
+    /** The game object of the earliest contact, or null for a brick of a BrickField. */
+    GameObject target;
+    /** The cell index of the brick of the earliest contact, or -1. */
+    int brickIndex;
+
+    /**
+     * Forgets the earliest contact, before a new sweep.
+     */
+    void reset() {
+        time = Float.POSITIVE_INFINITY;
+        target = null;
+        brickIndex = -1;
+    }
+
+    /**
+     * Checks whether the sweep found a contact within the segment.
+     * @return True if there is a contact, false otherwise.
+     */
+    boolean found() {
+        return time <= 1;
+    }
+
+    /**
+     * Gets the normal of the side of the earliest contact.
+     * @return Vector2.RIGHT for a vertical side, Vector2.DOWN for a horizontal one.
+     */
+    Vector2 normal() {
+        return vertical ? Vector2.RIGHT : Vector2.DOWN;
+    }
+
+    /**
+     * Sweeps the moving box against a standing box, and keeps the contact if it is earlier
+     * than the earliest one so far. A box that already overlaps the standing box when the
+     * segment starts does not touch it, so it can leave it.
+     * @param left         The left of the moving box at the start of the segment.
+     * @param top          The top of the moving box at the start of the segment.
+     * @param width        The width of the moving box.
+     * @param height       The height of the moving box.
+     * @param dx           The horizontal length of the segment.
+     * @param dy           The vertical length of the segment.
+     * @param targetLeft   The left of the standing box.
+     * @param targetTop    The top of the standing box.
+     * @param targetWidth  The width of the standing box.
+     * @param targetHeight The height of the standing box.
+     * @return True if the contact is the earliest so far, false otherwise.
+     */
+    boolean sweep(float left, float top, float width, float height, float dx, float dy,
+                  float targetLeft, float targetTop, float targetWidth, float targetHeight) {
+        float entryX, exitX, entryY, exitY;
+        if (dx > 0) {
+            entryX = (targetLeft - (left + width)) / dx;
+            exitX = (targetLeft + targetWidth - left) / dx;
+        } else if (dx < 0) {
+            entryX = (targetLeft + targetWidth - left) / dx;
+            exitX = (targetLeft - (left + width)) / dx;
+        } else if (left + width > targetLeft && left < targetLeft + targetWidth) {
+            entryX = Float.NEGATIVE_INFINITY;
+            exitX = Float.POSITIVE_INFINITY;
+        } else {
+            return false;
+        }
+        if (dy > 0) {
+            entryY = (targetTop - (top + height)) / dy;
+            exitY = (targetTop + targetHeight - top) / dy;
+        } else if (dy < 0) {
+            entryY = (targetTop + targetHeight - top) / dy;
+            exitY = (targetTop - (top + height)) / dy;
+        } else if (top + height > targetTop && top < targetTop + targetHeight) {
+            entryY = Float.NEGATIVE_INFINITY;
+            exitY = Float.POSITIVE_INFINITY;
+        } else {
+            return false;
+        }
+        float entry = Math.max(entryX, entryY);
+        float exit = Math.min(exitX, exitY);
+        if (entry < 0 || entry > exit || entry > 1 || entry >= time) {
+            return false;
+        }
+        time = entry;
+        vertical = entryX > entryY;
+        return true;
+    }
+}
@@ -4,9 +4,6 @@
  */
 package bricker.gameobjects;
 
-import danogl.GameObject;
-import danogl.collisions.Collision;
-import danogl.collisions.GameObjectCollection;
 import danogl.gui.UserInputListener;
 import danogl.gui.rendering.Renderable;
 import danogl.util.Vector2;
@@ -18,7 +15,7 @@ import danogl.util.Vector2;
  * @author Shay Abbou & Shaked Hartal
  */
 public class ExtraPaddle extends Paddle{
-    private GameObjectCollection gameObjectCollection;
+    private OffScreenCuller culler;
     private int collisionCounter;
     private int paddleCounter;
 
@@ -30,14 +27,13 @@ public class ExtraPaddle extends Paddle{
      * @param renderable           The renderable representing the ExtraPaddle.
      * @param inputListener        The user input listener for handling paddle controls.
      * @param windowDimensions     The dimensions of the game window.
-     * @param gameObjectCollection The collection of GameObjects in the game.
+     * @param culler               The culler that removes the ExtraPaddle from the game.
      */
     public ExtraPaddle(Vector2 topLeftCorner, Vector2 dimensions, Renderable renderable,
                        UserInputListener inputListener, Vector2 windowDimensions,
-                       GameObjectCollection gameObjectCollection) {
+                       OffScreenCuller culler) {
         super(topLeftCorner, dimensions, renderable, inputListener, windowDimensions);
-        this.gameObjectCollection = gameObjectCollection;
-        this.setTag("extra");
+        this.culler = culler;
     }
 
     /**
@@ -49,21 +45,43 @@ public class ExtraPaddle extends Paddle{
     public void update(float deltaTime) {
         super.update(deltaTime);
         if(collisionCounter >= 4){
-            gameObjectCollection.removeGameObject(this);
-            collisionCounter = 0;
-            paddleCounter = 0;
+            culler.retire(this);
+            resetCounters();
         }
     }
+
+    /**
+     * Gets the number of times a ball bounced off the ExtraPaddle since it was added.
+     * @return The number of collisions.
+     */
+    public int getCollisionCounter(){
+        return collisionCounter;
+    }
+
+    /**
+     * Sets the number of times a ball bounced off the ExtraPaddle, for an ExtraPaddle
+     * restored from a saved game.
+     * @param collisionCounter The number of collisions.
+     */
+    public void setCollisionCounter(int collisionCounter){
+        this.collisionCounter = collisionCounter;
+    }
+
+    /**
+     * Marks the ExtraPaddle as inactive, with no collisions counted, so it can be added
+     * again. Called when it leaves the game.
+     */
+    public void resetCounters(){
+        collisionCounter = 0;
+        paddleCounter = 0;
+    }
     /**
-     * Handles the event when a collision occurs with another game object.
-     * Overrides the base class method to count collisions with balls.
-     * @param other     The other game object involved in the collision.
-     * @param collision The collision information.
+     * Counts a ball bouncing off the ExtraPaddle.
+     * @param ball The ball that hit the ExtraPaddle.
      */
     @Override
-    public void onCollisionEnter(GameObject other, Collision collision) {
-        if(other instanceof Ball)
-            collisionCounter++;
+    public void hitBy(Ball ball) {
+        collisionCounter++;
     }
     /**
      * Gets the current paddle counting status of the ExtraPaddle.
@@ -79,4 +97,22 @@ public class ExtraPaddle extends Paddle{
     public void incrementPaddleCounter(){
         paddleCounter++;
     }
+
+    /**
+     * Gets the category of the ExtraPaddle.
+     * @return CollisionCategories.EXTRA_PADDLE.
+     */
+    @Override
+    public int getCategory() {
+        return CollisionCategories.EXTRA_PADDLE;
+    }
+
+    /**
+     * Gets the categories the ExtraPaddle collides with: none, as it catches no hearts.
+     * @return CollisionCategories.NONE.
+     */
+    @Override
+    public int getCollisionMask() {
+        return CollisionCategories.NONE;
+    }
 }
@@ -4,73 +4,72 @@
  */
 package bricker.gameobjects;
 
-import bricker.ui.Life;
+import bricker.events.GameEvents;
 import danogl.GameObject;
 import danogl.collisions.Collision;
-import danogl.collisions.GameObjectCollection;
 import danogl.gui.rendering.Renderable;
 import danogl.util.Vector2;
 
 /**
  * The Heart class represents a game object that provides an extra life when collected.
- * It extends the base GameObject class and includes logic for updating its position,
- * checking collisions with the paddle, and handling collision events.
+ * It extends the base GameObject class and includes logic for checking collisions with the
+ * paddle and handling collision events. A heart that falls off the screen is removed by an
+ * OffScreenCuller.
  * @author Shay Abbou & Shaked Hartal
  */
-public class Heart extends GameObject {
-    private Vector2 windowDimensions;
-    private GameObjectCollection gameObjectCollection;
-    private Life life;
+public class Heart extends GameObject implements Categorized {
+    private OffScreenCuller culler;
+    private GameEvents events;
 
     /**
      * Constructs a Heart object with the specified parameters.
      * @param topLeftCorner         The position of the heart, in window coordinates (pixels).
      * @param dimensions            The width and height of the heart in window coordinates.
      * @param renderable            The renderable representing the heart.
-     * @param windowDimensions      The dimensions of the game window.
-     * @param gameObjectCollection  The collection of GameObjects in the game.
-     * @param life                  The Life object representing the player's life count.
+     * @param culler                The culler that removes the heart from the game.
+     * @param events                The bus the caught heart is published on.
      */
     public Heart(Vector2 topLeftCorner, Vector2 dimensions, Renderable renderable,
-                 Vector2 windowDimensions, GameObjectCollection gameObjectCollection, Life life) {
+                 OffScreenCuller culler, GameEvents events) {
         super(topLeftCorner, dimensions, renderable);
-        this.windowDimensions = windowDimensions;
-        this.gameObjectCollection = gameObjectCollection;
-        this.life = life;
+        this.culler = culler;
+        this.events = events;
     }
 
 
     /**
-     * Updates the Heart's state over time.
-     * Check if the heart has moved below the window's bottom edge ,if yes
-     * remove it from the gameobjects.
-     * @param deltaTime The time passed since the last frame update.
+     * Determines what is a legal collision.
+     * Overrides the base class method to allow collisions only with the categories of the
+     * heart's mask: the user paddle, and not extra paddles.
+     * @param other The other game object involved in the potential collision.
+     * @return True if the Heart should collide with the specified object, false otherwise.
      */
     @Override
-    public void update(float deltaTime) {
-        super.update(deltaTime);
-        float heartHeight = getTopLeftCorner().y();
-        if(heartHeight > windowDimensions.y()) {
-            gameObjectCollection.removeGameObject(this);
-        }
+    public boolean shouldCollideWith(GameObject other) {
+        return CollisionCategories.collides(this, other);
     }
 
+    /**
+     * Gets the category of the heart.
+     * @return CollisionCategories.HEART.
+     */
+    @Override
+    public int getCategory() {
+        return CollisionCategories.HEART;
+    }
 
     /**
-     * Determines what is a legal collision.
-     * Overrides the base class method to allow collisions only with paddles
-     * and not extra paddle.
-     * @param other The other game object involved in the potential collision.
-     * @return True if the Heart should collide with the specified object, false otherwise.
+     * Gets the categories the heart collides with: the user paddle.
+     * @return CollisionCategories.PADDLE.
      */
     @Override
-    public boolean shouldCollideWith(GameObject other) {
-        return other.getTag().equals("paddle");
+    public int getCollisionMask() {
+        return CollisionCategories.PADDLE;
     }
 
     /**
      * Handles the event when a collision occurs with paddle game object.
-     * Overrides the base class method to add a heart to the player's life count
+     * Overrides the base class method to publish a LIFE_GAINED event
      * and remove the Heart from the game.
      * @param other     The other game object involved in the collision (paddle).
      * @param collision The collision information.
@@ -78,7 +77,7 @@ public class Heart extends GameObject {
     @Override
     public void onCollisionEnter(GameObject other, Collision collision) {
         super.onCollisionEnter(other, collision);
-        life.addLife();
-        gameObjectCollection.removeGameObject(this);
+        events.publish(GameEvents.LIFE_GAINED, 0);
+        culler.retire(this);
     }
 }
@@ -0,0 +1,125 @@
+/**
+ * Package bricker.gameobjects contains classes of different
+ * game objects.
+ */
+package bricker.gameobjects;
+
+import danogl.GameObject;
+import danogl.collisions.GameObjectCollection;
+import danogl.util.Vector2;
+import java.util.ArrayList;
+import java.util.Arrays;
+
+/**
+ * The OffScreenCuller class removes transient game objects (pucks, hearts and extra
+ * paddles) from the game in a single pass per frame. Tracked objects are swept against
+ * the bottom of the world once per frame, instead of each object checking its own
+ * position in its update. Objects that leave the game for another reason, such as a
+ * collected heart, are retired and removed in the same pass. Removed pucks return to
+ * their pool, and a removed extra paddle can be added again.
+ * @author Shay Abbou & Shaked Hartal
+ */
+public class OffScreenCuller {
+    private static final int INITIAL_CAPACITY = 64;
+    private final GameObjectCollection gameObjectCollection;
+    private final float worldBottom;
+    private final ArrayList<GameObject> retired = new ArrayList<>();
+    private GameObject[] tracked = new GameObject[INITIAL_CAPACITY];
+    private int trackedCount;
+    private int culledLastFrame;
+
+    /**
+     * Constructs an OffScreenCuller with the specified parameters.
+     * @param gameObjectCollection The collection of GameObjects in the game.
+     * @param windowDimensions     The dimensions of the game window.
+     */
+    public OffScreenCuller(GameObjectCollection gameObjectCollection,
+                           Vector2 windowDimensions) {
+        this.gameObjectCollection = gameObjectCollection;
+        this.worldBottom = windowDimensions.y();
+    }
+
+    /**
+     * Starts sweeping a transient object, which is removed once it falls below the bottom
+     * of the world.
+     * @param gameObject The object, already added to the game.
+     */
+    public void track(GameObject gameObject) {
+        if (trackedCount == tracked.length) {
+            tracked = Arrays.copyOf(tracked, tracked.length * 2);
+        }
+        tracked[trackedCount++] = gameObject;
+    }
+
+    /**
+     * Removes an object from the game in the next sweep, whatever its position.
+     * @param gameObject The object to remove, tracked or not.
+     */
+    public void retire(GameObject gameObject) {
+        retired.add(gameObject);
+    }
+
+    /**
+     * Removes every tracked object below the bottom of the world and every retired object,
+     * in a single pass. Called once per frame.
+     * @return The number of objects removed.
+     */
+    public int cull() {
+        int culled = 0;
+        int kept = 0;
+        for (int i = 0; i < trackedCount; i++) {
+            GameObject gameObject = tracked[i];
+            if (gameObject.getTopLeftCorner().y() > worldBottom) {
+                remove(gameObject);
+                culled++;
+            } else {
+                tracked[kept++] = gameObject;
+            }
+        }
+        Arrays.fill(tracked, kept, trackedCount, null);
+        trackedCount = kept;
+        for (int i = 0; i < retired.size(); i++) {
+            untrack(retired.get(i));
+            remove(retired.get(i));
+            culled++;
+        }
+        retired.clear();
+        culledLastFrame = culled;
+        return culled;
+    }
+
+    /**
+     * Gets the number of objects removed by the last sweep.
+     * @return The number of objects culled in the last frame.
+     */
+    public int getCulledLastFrame() {
+        return culledLastFrame;
+    }
+
+    /**
+     * Gets the number of transient objects currently swept.
+     * @return The number of tracked objects.
+     */
+    public int getTrackedCount() {
+        return trackedCount;
+    }
+
+    private void untrack(GameObject gameObject) {
+        for (int i = 0; i < trackedCount; i++) {
+            if (tracked[i] == gameObject) {
+                tracked[i] = tracked[--trackedCount];
+                tracked[trackedCount] = null;
+                return;
+            }
+        }
+    }
+
+    private void remove(GameObject gameObject) {
+        gameObjectCollection.removeGameObject(gameObject);
+        if (gameObject instanceof Puck) {
+            ((Puck) gameObject).returnToPool();
+        } else if (gameObject instanceof ExtraPaddle) {
+            ((ExtraPaddle) gameObject).resetCounters();
+        }
+    }
+}
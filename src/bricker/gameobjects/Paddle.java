@@ -16,11 +16,12 @@ import java.awt.event.KeyEvent;
  * The paddle can be moved horizontally based on keyboard input to the left or right.
  * @author Shay Abbou & Shaked Hartal
  */
-public class Paddle extends GameObject {
+public class Paddle extends GameObject implements Categorized {
 
     private static final float MOVEMENT_SPEED = 300;
     private UserInputListener inputListener;
     private Vector2 windowDimensions;
+    private Vector2 previousTopLeftCorner;
 
     /**
      * Constructs a new Paddle object with the specified parameters.
@@ -36,7 +37,7 @@ public class Paddle extends GameObject {
         super(topLeftCorner, dimensions, renderable);
         this.inputListener = inputListener;
         this.windowDimensions = windowDimensions;
-        this.setTag("paddle");
+        this.previousTopLeftCorner = topLeftCorner;
     }
 
     /**
@@ -45,6 +46,7 @@ public class Paddle extends GameObject {
      */
     @Override
     public void update(float deltaTime) {
+        previousTopLeftCorner = getTopLeftCorner();
         super.update(deltaTime);
         Vector2 movementDir = Vector2.ZERO;
         if(inputListener.isKeyPressed(KeyEvent.VK_LEFT)){
@@ -64,4 +66,48 @@ public class Paddle extends GameObject {
             this.setTopLeftCorner(vec);
         }
     }
+
+    /**
+     * Gets the position of the paddle at the start of the current frame.
+     * @return The top left corner of the paddle before it moved this frame.
+     */
+    Vector2 getPreviousTopLeftCorner() {
+        return previousTopLeftCorner;
+    }
+
+    /**
+     * Handles a ball bouncing off the paddle, as swept by SweptCollider. A paddle does
+     * nothing on a hit.
+     * @param ball The ball that hit the paddle.
+     */
+    public void hitBy(Ball ball) {
+    }
+
+    /**
+     * Tells the engine to collide the paddle only with the categories of its mask.
+     * @param other The other game object.
+     * @return True if the other game object is in the collision mask of the paddle.
+     */
+    @Override
+    public boolean shouldCollideWith(GameObject other) {
+        return CollisionCategories.collides(this, other);
+    }
+
+    /**
+     * Gets the category of the paddle.
+     * @return CollisionCategories.PADDLE.
+     */
+    @Override
+    public int getCategory() {
+        return CollisionCategories.PADDLE;
+    }
+
+    /**
+     * Gets the categories the paddle collides with: the hearts it catches.
+     * @return CollisionCategories.HEART.
+     */
+    @Override
+    public int getCollisionMask() {
+        return CollisionCategories.HEART;
+    }
 }
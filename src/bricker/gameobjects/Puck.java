@@ -4,20 +4,23 @@
  */
 package bricker.gameobjects;
 
-import danogl.collisions.GameObjectCollection;
-import danogl.gui.Sound;
+import bricker.assets.SoundCue;
 import danogl.gui.rendering.Renderable;
 import danogl.util.Vector2;
 
 /**
  * The Puck class represents a game object that extends the Ball class.
  * The puck balls can brake bricks but not function as the main ball of the game.
+ * Pucks are created and reused by a PuckPool, and return to it when an OffScreenCuller
+ * removes them from the game.
  * @author Shay Abbou & Shaked Hartal
  */
 public class Puck extends Ball{
-    private static final float PUCK_SCALE = 0.75f;
-    private GameObjectCollection gameObjectCollection;
-    private Vector2 windowDimensions;
+    /** The size of a puck relative to the main ball. */
+    public static final float PUCK_SCALE = 0.75f;
+    private PuckPool puckPool;
+    private Vector2 dimensions;
+
     /**
      * Constructs a new Puck object with the specified parameters.
      *
@@ -26,26 +29,50 @@ public class Puck extends Ball{
      * @param renderable            The renderable representing the puck. Can be null if the puck
      *                              should not be rendered.
      * @param collisionSound        The sound played upon collision with other game objects.
-     * @param windowDimensions      The dimensions of the game window.
-     * @param gameObjectCollection  The collection of game objects to manage puck removal.
+     * @param puckPool              The pool the puck returns to once removed.
      */
     public Puck(Vector2 topLeftCorner, Vector2 dimensions, Renderable renderable,
-                Sound collisionSound, Vector2 windowDimensions, GameObjectCollection gameObjectCollection) {
+                SoundCue collisionSound, PuckPool puckPool) {
         super(topLeftCorner, dimensions.mult(PUCK_SCALE), renderable, collisionSound);
-        this.windowDimensions = windowDimensions;
-        this.gameObjectCollection = gameObjectCollection;
+        this.puckPool = puckPool;
+        this.dimensions = getDimensions();
+    }
+
+    /**
+     * Resets the puck to a freshly spawned state, for a puck taken out of its pool.
+     * @param center   The center of the puck.
+     * @param velocity The velocity of the puck.
+     */
+    void reset(Vector2 center, Vector2 velocity) {
+        setDimensions(dimensions);
+        setCenter(center);
+        setVelocity(velocity);
+        resetCollisionCounter();
+    }
+
+    /**
+     * Returns the puck to its pool, once it was removed from the game.
+     */
+    void returnToPool() {
+        puckPool.release(this);
+    }
+
+    /**
+     * Gets the category of the puck.
+     * @return CollisionCategories.PUCK.
+     */
+    @Override
+    public int getCategory() {
+        return CollisionCategories.PUCK;
     }
 
     /**
-     * Updates the puck's state, enforcing removal when it reached the window bottom border.
-     * @param deltaTime The time elapsed since the last update.
+     * Gets the categories the puck collides with: the main ball only, so pucks never
+     * test each other.
+     * @return CollisionCategories.BALL.
      */
     @Override
-    public void update(float deltaTime) {
-        super.update(deltaTime);
-        float ballHeight = getTopLeftCorner().y();
-        if(ballHeight > windowDimensions.y()) {
-            gameObjectCollection.removeGameObject(this);
-        }
+    public int getCollisionMask() {
+        return CollisionCategories.BALL;
     }
 }
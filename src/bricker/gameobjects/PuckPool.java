@@ -0,0 +1,116 @@
+/**
+ * Package bricker.gameobjects contains classes of different
+ * game objects.
+ */
+package bricker.gameobjects;
+
+import bricker.assets.SoundCue;
+import danogl.gui.rendering.Renderable;
+import danogl.util.Vector2;
+
+/**
+ * The PuckPool class keeps a bounded stock of Puck objects, so pucks that fall off the
+ * screen are reused by later spawns instead of being reallocated. The pool is filled
+ * when it is created, and counts how many spawns it could serve (hits) and how many
+ * had to allocate a new puck (misses).
+ * @author Shay Abbou & Shaked Hartal
+ */
+public class PuckPool {
+    private final Puck[] freePucks;
+    private final Vector2 dimensions;
+    private final Renderable renderable;
+    private final SoundCue collisionSound;
+    private int freeCount;
+    private int hits, misses;
+    private int liveCount, peakLiveCount;
+
+    /**
+     * Constructs a PuckPool with the specified parameters.
+     * @param capacity             The maximal number of pucks kept for reuse.
+     * @param prewarm              The number of pucks allocated up front.
+     * @param dimensions           The dimensions of the ball the pucks are scaled from.
+     * @param renderable           The renderable representing the pucks.
+     * @param collisionSound       The sound played upon collision of a puck.
+     */
+    public PuckPool(int capacity, int prewarm, Vector2 dimensions, Renderable renderable,
+                    SoundCue collisionSound) {
+        this.freePucks = new Puck[capacity];
+        this.dimensions = dimensions;
+        this.renderable = renderable;
+        this.collisionSound = collisionSound;
+        for (int i = 0; i < Math.min(prewarm, capacity); i++) {
+            freePucks[freeCount++] = newPuck();
+        }
+    }
+
+    /**
+     * Takes a puck out of the pool, or allocates one if the pool is empty, and resets it.
+     * The puck is not added to the game objects.
+     * @param center   The center of the puck.
+     * @param velocity The velocity of the puck.
+     * @return A puck ready to be added to the game.
+     */
+    public Puck acquire(Vector2 center, Vector2 velocity) {
+        Puck puck;
+        if (freeCount > 0) {
+            puck = freePucks[--freeCount];
+            freePucks[freeCount] = null;
+            hits++;
+        } else {
+            puck = newPuck();
+            misses++;
+        }
+        puck.reset(center, velocity);
+        liveCount++;
+        peakLiveCount = Math.max(peakLiveCount, liveCount);
+        return puck;
+    }
+
+    /**
+     * Returns a puck that left the game to the pool. If the pool is full, the puck is
+     * left to the garbage collector.
+     * @param puck The puck, already removed from the game objects.
+     */
+    public void release(Puck puck) {
+        liveCount--;
+        if (freeCount < freePucks.length) {
+            freePucks[freeCount++] = puck;
+        }
+    }
+
+    /**
+     * Gets the number of spawns served from the pool.
+     * @return The number of pool hits.
+     */
+    public int getHits() {
+        return hits;
+    }
+
+    /**
+     * Gets the number of spawns that had to allocate a new puck.
+     * @return The number of pool misses.
+     */
+    public int getMisses() {
+        return misses;
+    }
+
+    /**
+     * Gets the number of pucks currently in the game.
+     * @return The number of live pucks.
+     */
+    public int getLiveCount() {
+        return liveCount;
+    }
+
+    /**
+     * Gets the highest number of pucks that were in the game at the same time.
+     * @return The peak number of live pucks.
+     */
+    public int getPeakLiveCount() {
+        return peakLiveCount;
+    }
+
+    private Puck newPuck() {
+        return new Puck(Vector2.ZERO, dimensions, renderable, collisionSound, this);
+    }
+}
@@ -0,0 +1,86 @@
+/**
+ * Package bricker.gameobjects contains classes of different
+ * game objects.
+ */
+package bricker.gameobjects;
+
+import danogl.GameObject;
+import danogl.util.Vector2;
+import java.util.ArrayList;
+import java.util.Arrays;
+
+/**
+ * The RenderInterpolator class draws moving objects between their last two simulation
+ * states, so motion looks smooth when the game is rendered at a different rate than it is
+ * simulated. Before a simulation step it records where the objects are; before rendering
+ * it moves every recorded object to a point between the recorded and the current position,
+ * and after rendering it moves them back. An object that jumped further than a step could
+ * move it, such as a ball put back in the middle of the window, is drawn where it is.
+ * @author Shay Abbou & Shaked Hartal
+ */
+public class RenderInterpolator {
+    private static final int INITIAL_CAPACITY = 32;
+    private static final float MAX_INTERPOLATED_DISTANCE = 50;
+    private final ArrayList<GameObject> objects = new ArrayList<>();
+    private float[] previousX = new float[INITIAL_CAPACITY];
+    private float[] previousY = new float[INITIAL_CAPACITY];
+    private float[] currentX = new float[INITIAL_CAPACITY];
+    private float[] currentY = new float[INITIAL_CAPACITY];
+
+    /**
+     * Records the positions of the moving objects before a simulation step.
+     * @param gameObjects The objects that may move.
+     */
+    public void capture(Iterable<GameObject> gameObjects) {
+        objects.clear();
+        for (GameObject gameObject : gameObjects) {
+            int i = objects.size();
+            if (i == previousX.length) {
+                previousX = Arrays.copyOf(previousX, i * 2);
+                previousY = Arrays.copyOf(previousY, i * 2);
+                currentX = Arrays.copyOf(currentX, i * 2);
+                currentY = Arrays.copyOf(currentY, i * 2);
+            }
+            Vector2 topLeftCorner = gameObject.getTopLeftCorner();
+            previousX[i] = topLeftCorner.x();
+            previousY[i] = topLeftCorner.y();
+            objects.add(gameObject);
+        }
+    }
+
+    /**
+     * Moves the recorded objects between their recorded and current positions, for
+     * rendering. Must be followed by restore.
+     * @param alpha How far to move from the recorded position towards the current one,
+     *              between 0 and 1.
+     */
+    public void interpolate(float alpha) {
+        for (int i = 0; i < objects.size(); i++) {
+            GameObject gameObject = objects.get(i);
+            Vector2 topLeftCorner = gameObject.getTopLeftCorner();
+            currentX[i] = topLeftCorner.x();
+            currentY[i] = topLeftCorner.y();
+            float dx = currentX[i] - previousX[i];
+            float dy = currentY[i] - previousY[i];
+            if ((dx == 0 && dy == 0) || Math.abs(dx) > MAX_INTERPOLATED_DISTANCE ||
+                    Math.abs(dy) > MAX_INTERPOLATED_DISTANCE) {
+                continue;
+            }
+            gameObject.setTopLeftCorner(new Vector2(previousX[i] + dx * alpha,
+                    previousY[i] + dy * alpha));
+        }
+    }
+
+    /**
+     * Moves the recorded objects back to their current positions, after rendering.
+     */
+    public void restore() {
+        for (int i = 0; i < objects.size(); i++) {
+            GameObject gameObject = objects.get(i);
+            Vector2 topLeftCorner = gameObject.getTopLeftCorner();
+            if (topLeftCorner.x() != currentX[i] || topLeftCorner.y() != currentY[i]) {
+                gameObject.setTopLeftCorner(new Vector2(currentX[i], currentY[i]));
+            }
+        }
+    }
+}
@@ -0,0 +1,178 @@
+/**
+ * Package bricker.gameobjects contains classes of different
+ * game objects.
+ */
+package bricker.gameobjects;
+
+import danogl.GameObject;
+import danogl.util.Vector2;
+import java.util.ArrayList;
+
+/**
+ * The SweptCollider class resolves the collisions of balls with bricks, paddles and borders
+ * continuously rather than by overlap. After the engine moved the objects of a frame, each
+ * ball is swept from where it started the frame to where it ended it: it stops at its
+ * earliest contact along the way, bounces, and carries on with the rest of its move, up to
+ * a few contacts per frame. Paddles move during the frame too, so a ball is swept against a
+ * paddle in the paddle's frame of reference. A ball therefore cannot pass through a brick or a
+ * paddle however fast either moves or however long the frame is, so the game can run at a low
+ * tick rate.
+ * Balls, paddles and borders are told apart by their CollisionCategories; the collision
+ * masks keep the engine from testing balls against paddles and borders, while balls still
+ * collide with each other through the engine.
+ * @author Shay Abbou & Shaked Hartal
+ */
+public class SweptCollider {
+    private static final int MAX_CONTACTS_PER_FRAME = 4;
+    private static final float CONTACT_GAP = 0.01f;
+    private final BrickField brickField;
+    private final ArrayList<Ball> balls = new ArrayList<>();
+    private final ArrayList<GameObject> solids = new ArrayList<>();
+    private final Contact contact = new Contact();
+
+    /**
+     * Constructs a SweptCollider for the bricks of a brick field.
+     * @param brickField The brick field whose bricks balls hit.
+     */
+    public SweptCollider(BrickField brickField) {
+        this.brickField = brickField;
+    }
+
+    /**
+     * Sweeps every ball among the given objects against the bricks, and against the
+     * paddles and borders among the given objects.
+     * @param gameObjects The game objects of the layers balls, paddles and borders are in.
+     */
+    @SafeVarargs
+    public final void resolveCollisions(Iterable<GameObject>... gameObjects) {
+        balls.clear();
+        solids.clear();
+        for (Iterable<GameObject> layer : gameObjects) {
+            for (GameObject gameObject : layer) {
+                int category = CollisionCategories.of(gameObject);
+                if ((category & CollisionCategories.BALLS) != 0) {
+                    balls.add((Ball) gameObject);
+                } else if ((category & CollisionCategories.SOLIDS) != 0) {
+                    solids.add(gameObject);
+                }
+            }
+        }
+        for (int i = 0; i < balls.size(); i++) {
+            sweep(balls.get(i));
+        }
+    }
+
+    private void sweep(Ball ball) {
+        Vector2 start = ball.getPreviousTopLeftCorner();
+        Vector2 end = ball.getTopLeftCorner();
+        float width = ball.getDimensions().x();
+        float height = ball.getDimensions().y();
+        float left = start.x();
+        float top = start.y();
+        float dx = end.x() - left;
+        float dy = end.y() - top;
+        float elapsed = 0;
+        boolean bounced = false;
+        boolean clear = false;
+        for (int contacts = 0; contacts <= MAX_CONTACTS_PER_FRAME; contacts++) {
+            findEarliestContact(left, top, width, height, dx, dy, elapsed);
+            if (!contact.found()) {
+                clear = true;
+                break;
+            }
+            if (contacts == MAX_CONTACTS_PER_FRAME) {
+                break;
+            }
+            left += dx * contact.time;
+            top += dy * contact.time;
+            dx *= 1 - contact.time;
+            dy *= 1 - contact.time;
+            elapsed += (1 - elapsed) * contact.time;
+            // The rest of the move is reflected in the frame of the target, so a ball hit by
+            // a moving paddle is carried off its side rather than left inside it
+            float targetDx = 0;
+            float targetDy = 0;
+            if (isPaddle(contact.target)) {
+                Vector2 targetEnd = contact.target.getTopLeftCorner();
+                Vector2 targetStart = ((Paddle) contact.target).getPreviousTopLeftCorner();
+                targetDx = (targetEnd.x() - targetStart.x()) * (1 - elapsed);
+                targetDy = (targetEnd.y() - targetStart.y()) * (1 - elapsed);
+            }
+            if (contact.vertical) {
+                left -= Math.signum(dx - targetDx) * CONTACT_GAP;
+                dx = 2 * targetDx - dx;
+            } else {
+                top -= Math.signum(dy - targetDy) * CONTACT_GAP;
+                dy = 2 * targetDy - dy;
+            }
+            bounced = true;
+            hit(ball, contact, left + width / 2, top + height / 2);
+        }
+        // A move with a contact left after the last one allowed is dropped, and the ball
+        // stops where it last bounced rather than taking a move that was not swept
+        if (bounced) {
+            ball.setTopLeftCorner(clear ? new Vector2(left + dx, top + dy) :
+                    new Vector2(left, top));
+        }
+    }
+
+    private void findEarliestContact(float left, float top, float width, float height,
+                                     float dx, float dy, float elapsed) {
+        contact.reset();
+        brickField.sweep(left, top, width, height, dx, dy, contact);
+        for (int i = 0; i < solids.size(); i++) {
+            GameObject solid = solids.get(i);
+            Vector2 solidTopLeftCorner = solid.getTopLeftCorner();
+            Vector2 solidDimensions = solid.getDimensions();
+            float solidLeft = solidTopLeftCorner.x();
+            float solidTop = solidTopLeftCorner.y();
+            float relativeDx = dx;
+            float relativeDy = dy;
+            if (isPaddle(solid)) {
+                // A paddle moves during the frame too, so the ball is swept in its frame,
+                // from where the paddle was when the rest of the ball's move starts
+                Vector2 solidStart = ((Paddle) solid).getPreviousTopLeftCorner();
+                float moveX = solidLeft - solidStart.x();
+                float moveY = solidTop - solidStart.y();
+                solidLeft = solidStart.x() + moveX * elapsed;
+                solidTop = solidStart.y() + moveY * elapsed;
+                relativeDx -= moveX * (1 - elapsed);
+                relativeDy -= moveY * (1 - elapsed);
+            }
+            if (contact.sweep(left, top, width, height, relativeDx, relativeDy,
+                    solidLeft, solidTop, solidDimensions.x(), solidDimensions.y())) {
+                contact.target = solid;
+                contact.brickIndex = -1;
+            }
+        }
+    }
+
+    private static boolean isPaddle(GameObject gameObject) {
+        return gameObject != null && CollisionCategories.isIn(gameObject,
+                CollisionCategories.PADDLE | CollisionCategories.EXTRA_PADDLE);
+    }
+
+    private void hit(Ball ball, Contact contact, float ballCenterX, float ballCenterY) {
+        Vector2 normal = contact.normal();
+        GameObject target = contact.target;
+        int brickIndex = contact.brickIndex;
+        if (isPaddle(target)) {
+            // A paddle catching up with a ball that already moves away from it pushes the
+            // ball without a bounce, which would turn it back into the paddle
+            Vector2 velocity = ball.getVelocity();
+            Vector2 targetCenter = target.getCenter();
+            float towards = contact.vertical ?
+                    velocity.x() * (targetCenter.x() - ballCenterX) :
+                    velocity.y() * (targetCenter.y() - ballCenterY);
+            if (towards <= 0) {
+                return;
+            }
+        }
+        ball.bounce(normal);
+        if (brickIndex >= 0) {
+            brickField.hit(brickIndex, ball);
+        } else if (isPaddle(target)) {
+            ((Paddle) target).hitBy(ball);
+        }
+    }
+}
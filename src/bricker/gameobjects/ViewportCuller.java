@@ -0,0 +1,91 @@
+/**
+ * Package bricker.gameobjects contains classes of different
+ * game objects.
+ */
+package bricker.gameobjects;
+
+import danogl.GameObject;
+import danogl.gui.rendering.Renderable;
+import danogl.util.Vector2;
+import java.util.Arrays;
+
+/**
+ * The ViewportCuller class keeps objects outside the view of a following camera from being
+ * drawn. Before rendering it hides every given object whose bounds do not meet the camera
+ * rectangle, by taking away its renderable, and limits the brick field to the cells under
+ * the rectangle; after rendering it gives the renderables back and lifts the limit. The
+ * bricks under the camera are found through the grid of the brick field, so drawing costs
+ * what is on screen rather than what is in the level.
+ * @author Shay Abbou & Shaked Hartal
+ */
+public class ViewportCuller {
+    private static final int INITIAL_CAPACITY = 32;
+    private GameObject[] hidden = new GameObject[INITIAL_CAPACITY];
+    private Renderable[] renderables = new Renderable[INITIAL_CAPACITY];
+    private int hiddenCount;
+    private BrickField brickField;
+
+    /**
+     * Hides the objects and bricks outside the view of a camera, for rendering. Must be
+     * followed by restore.
+     * @param camera      The camera, whose top left corner and dimensions are the
+     *                    rectangle of the world it shows.
+     * @param brickField  The brick field of the game, or null if there is none.
+     * @param gameObjects The objects that may be outside the view, in world coordinates.
+     */
+    public void cull(GameObject camera, BrickField brickField,
+                     Iterable<GameObject> gameObjects) {
+        Vector2 viewTopLeftCorner = camera.getTopLeftCorner();
+        Vector2 viewDimensions = camera.getDimensions();
+        float viewLeft = viewTopLeftCorner.x();
+        float viewTop = viewTopLeftCorner.y();
+        float viewRight = viewLeft + viewDimensions.x();
+        float viewBottom = viewTop + viewDimensions.y();
+        for (GameObject gameObject : gameObjects) {
+            Vector2 topLeftCorner = gameObject.getTopLeftCorner();
+            Vector2 dimensions = gameObject.getDimensions();
+            if (topLeftCorner.x() < viewRight &&
+                    topLeftCorner.x() + dimensions.x() > viewLeft &&
+                    topLeftCorner.y() < viewBottom &&
+                    topLeftCorner.y() + dimensions.y() > viewTop) {
+                continue;
+            }
+            Renderable renderable = gameObject.renderer().getRenderable();
+            if (renderable != null) {
+                hide(gameObject, renderable);
+            }
+        }
+        if (brickField != null) {
+            brickField.setViewport(viewLeft, viewTop, viewRight, viewBottom);
+        }
+        this.brickField = brickField;
+    }
+
+    /**
+     * Gives the hidden objects their renderables back and lifts the limit of the brick
+     * field, after rendering.
+     */
+    public void restore() {
+        for (int i = 0; i < hiddenCount; i++) {
+            hidden[i].renderer().setRenderable(renderables[i]);
+            hidden[i] = null;
+            renderables[i] = null;
+        }
+        hiddenCount = 0;
+        if (brickField != null) {
+            brickField.clearViewport();
+            brickField = null;
+        }
+    }
+
+    private void hide(GameObject gameObject, Renderable renderable) {
+        if (hiddenCount == hidden.length) {
+            hidden = Arrays.copyOf(hidden, hiddenCount * 2);
+            renderables = Arrays.copyOf(renderables, hiddenCount * 2);
+        }
+        hidden[hiddenCount] = gameObject;
+        renderables[hiddenCount] = renderable;
+        hiddenCount++;
+        gameObject.renderer().setRenderable(null);
+    }
+}
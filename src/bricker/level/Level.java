@@ -0,0 +1,178 @@
+/**
+ * Package bricker.level contains the level file format and its tools.
+ */
+package bricker.level;
+
+import bricker.brick_strategies.CollisionStrategy;
+import bricker.gameobjects.BrickField;
+import bricker.util.FrameProfiler;
+import danogl.gui.rendering.Renderable;
+import danogl.util.Vector2;
+import java.io.BufferedOutputStream;
+import java.io.DataOutputStream;
+import java.io.FileOutputStream;
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.nio.MappedByteBuffer;
+import java.nio.ShortBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.file.Paths;
+import java.nio.file.StandardOpenOption;
+import java.util.function.IntFunction;
+
+/**
+ * The Level class is a brick layout loaded from a level file. A level file is big endian,
+ * and holds a header with the format version, the grid size, the position of the top left
+ * brick, the brick dimensions and the gap between bricks, followed by one unsigned short per
+ * cell, row by row: the strategy code of the brick of the cell (see StrategyCodes), or
+ * NO_BRICK for an empty cell.
+ * The file is memory mapped rather than read, and the codes are only read while the brick
+ * field is filled, so a level of a million bricks loads in milliseconds.
+ * @author Shay Abbou & Shaked Hartal
+ */
+public class Level {
+    /** The first int of every level file, "BRKL". */
+    public static final int MAGIC = 0x42524B4C;
+    /** The version of the format. */
+    public static final short VERSION = 1;
+    /** The code of an empty cell. */
+    public static final int NO_BRICK = 0xFFFF;
+    private static final int HEADER_BYTES = Integer.BYTES + Short.BYTES + 2 * Integer.BYTES +
+            5 * Float.BYTES;
+    private final int rows, cols;
+    private final Vector2 topLeftCorner;
+    private final Vector2 brickDimensions;
+    private final float gap;
+    private final ShortBuffer codes;
+
+    private Level(int rows, int cols, Vector2 topLeftCorner, Vector2 brickDimensions,
+                  float gap, ShortBuffer codes) {
+        this.rows = rows;
+        this.cols = cols;
+        this.topLeftCorner = topLeftCorner;
+        this.brickDimensions = brickDimensions;
+        this.gap = gap;
+        this.codes = codes;
+    }
+
+    /**
+     * Maps a level file into memory.
+     * @param path The path of the level file.
+     * @return The level.
+     * @throws UncheckedIOException If the file cannot be read.
+     * @throws IllegalArgumentException If the file is not a level file of a known version.
+     */
+    public static Level load(String path) {
+        try (FileChannel channel = FileChannel.open(Paths.get(path), StandardOpenOption.READ)) {
+            long size = channel.size();
+            if (size < HEADER_BYTES) {
+                throw new IllegalArgumentException("Not a level file: " + path);
+            }
+            MappedByteBuffer buffer = channel.map(FileChannel.MapMode.READ_ONLY, 0, size);
+            if (buffer.getInt() != MAGIC || buffer.getShort() != VERSION) {
+                throw new IllegalArgumentException("Not a level file: " + path);
+            }
+            int rows = buffer.getInt();
+            int cols = buffer.getInt();
+            Vector2 topLeftCorner = new Vector2(buffer.getFloat(), buffer.getFloat());
+            Vector2 brickDimensions = new Vector2(buffer.getFloat(), buffer.getFloat());
+            float gap = buffer.getFloat();
+            if (rows <= 0 || cols <= 0 ||
+                    size != HEADER_BYTES + (long) rows * cols * Short.BYTES) {
+                throw new IllegalArgumentException("Corrupt level file: " + path);
+            }
+            return new Level(rows, cols, topLeftCorner, brickDimensions, gap,
+                    buffer.slice().asShortBuffer());
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+    }
+
+    /**
+     * Writes the layout of a brick field, and the strategy codes of its alive bricks, to a
+     * level file.
+     * @param path       The path of the level file.
+     * @param brickField The brick field.
+     * @throws UncheckedIOException If the file cannot be written.
+     */
+    public static void write(String path, BrickField brickField) {
+        try (DataOutputStream output = new DataOutputStream(
+                new BufferedOutputStream(new FileOutputStream(path)))) {
+            output.writeInt(MAGIC);
+            output.writeShort(VERSION);
+            output.writeInt(brickField.getRows());
+            output.writeInt(brickField.getCols());
+            output.writeFloat(brickField.getTopLeftCorner().x());
+            output.writeFloat(brickField.getTopLeftCorner().y());
+            output.writeFloat(brickField.getBrickDimensions().x());
+            output.writeFloat(brickField.getBrickDimensions().y());
+            output.writeFloat(brickField.getGap());
+            for (int index = 0; index < brickField.getCellCount(); index++) {
+                output.writeShort(brickField.isAlive(index) ?
+                        brickField.getStrategy(index).getCode() : NO_BRICK);
+            }
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+    }
+
+    /**
+     * Gets the number of rows of the level.
+     * @return The number of rows.
+     */
+    public int getRows() {
+        return rows;
+    }
+
+    /**
+     * Gets the number of bricks in each row of the level.
+     * @return The number of columns.
+     */
+    public int getCols() {
+        return cols;
+    }
+
+    /**
+     * Gets the width and height of every brick of the level.
+     * @return The brick dimensions.
+     */
+    public Vector2 getBrickDimensions() {
+        return brickDimensions;
+    }
+
+    /**
+     * Creates an empty brick field with the layout of the level.
+     * @param brickImage The renderable representing a single brick. Can be null if the
+     *                   bricks should not be rendered.
+     * @param profiler   The profiler that times the collision strategies of hit bricks.
+     *                   Can be null if they should not be timed.
+     * @return The brick field.
+     */
+    public BrickField createBrickField(Renderable brickImage, FrameProfiler profiler) {
+        return new BrickField(topLeftCorner, brickDimensions, gap, rows, cols, brickImage,
+                profiler);
+    }
+
+    /**
+     * Places the bricks of the level in a brick field with the layout of the level.
+     * Each distinct strategy code is looked up once.
+     * @param brickField       The brick field, created by createBrickField.
+     * @param strategyOfCode   Gets the collision strategy of a strategy code.
+     */
+    public void fill(BrickField brickField, IntFunction<CollisionStrategy> strategyOfCode) {
+        CollisionStrategy[] strategies = new CollisionStrategy[NO_BRICK];
+        int index = 0;
+        for (int row = 0; row < rows; row++) {
+            for (int col = 0; col < cols; col++) {
+                int code = codes.get(index++) & NO_BRICK;
+                if (code == NO_BRICK) {
+                    continue;
+                }
+                if (strategies[code] == null) {
+                    strategies[code] = strategyOfCode.apply(code);
+                }
+                brickField.add(row, col, strategies[code]);
+            }
+        }
+    }
+}
@@ -0,0 +1,57 @@
+/**
+ * Package bricker.level contains the level file format and its tools.
+ */
+package bricker.level;
+
+import bricker.simulation.HeadlessSimulation;
+import danogl.util.Vector2;
+
+/**
+ * The LevelExporter class converts the random brick layout of a seeded game into a level
+ * file, so a layout can be kept, shared or edited and then played with Level.
+ * @author Shay Abbou & Shaked Hartal
+ */
+public class LevelExporter {
+    private static final int WINDOW_WIDTH = 700;
+    private static final int WINDOW_HEIGHT = 500;
+    private static final int ROWS_OF_BRICKS = 7;
+    private static final int BRICKS_IN_ROW = 8;
+    private static final long DEFAULT_SEED = 42;
+    private static final float DELTA_TIME = 1f / 60;
+
+    private LevelExporter() {
+    }
+
+    /**
+     * Writes the random layout a game with the given seed starts with to a level file.
+     * @param path         The path of the level file.
+     * @param rowsOfBricks The number of rows of bricks.
+     * @param bricksInRow  The number of bricks in each row.
+     * @param seed         The seed of the game.
+     */
+    public static void export(String path, int rowsOfBricks, int bricksInRow, long seed) {
+        HeadlessSimulation simulation = new HeadlessSimulation(
+                new Vector2(WINDOW_WIDTH, WINDOW_HEIGHT), rowsOfBricks, bricksInRow,
+                DELTA_TIME, seed);
+        simulation.initialize();
+        Level.write(path, simulation.getGameManager().getBrickField());
+    }
+
+    /**
+     * Exports a random layout to a level file.
+     * @param args Command-line arguments specifying the level file, and optionally the
+     *             number of bricks in a row, rows of bricks and the seed. If not provided,
+     *             default values are used.
+     */
+    public static void main(String[] args) {
+        if (args.length == 0) {
+            System.err.println("Usage: LevelExporter <level file> " +
+                    "[bricks in row] [rows of bricks] [seed]");
+            return;
+        }
+        int bricksInRow = args.length >= 3 ? Integer.parseInt(args[1]) : BRICKS_IN_ROW;
+        int rowsOfBricks = args.length >= 3 ? Integer.parseInt(args[2]) : ROWS_OF_BRICKS;
+        long seed = args.length >= 4 ? Long.parseLong(args[3]) : DEFAULT_SEED;
+        export(args[0], rowsOfBricks, bricksInRow, seed);
+    }
+}
@@ -1,8 +1,23 @@
 package bricker.main;
 
+import bricker.assets.AssetRegistry;
 import bricker.brick_strategies.BrickedStrategyFactory;
+import bricker.brick_strategies.CameraStrategy;
+import bricker.brick_strategies.CollisionStrategy;
+import bricker.brick_strategies.ExtraPaddleStrategy;
+import bricker.brick_strategies.StrategyCodes;
+import bricker.diagnostics.CameraSwitchEvent;
+import bricker.events.GameEvents;
 import bricker.gameobjects.*;
+import bricker.level.Level;
+import bricker.net.GameSnapshot;
+import bricker.simulation.InputRecorder;
 import bricker.ui.Life;
+import bricker.ui.PerfHud;
+import bricker.util.FixedStepClock;
+import bricker.util.FrameProfiler;
+import bricker.util.GameRandom;
+import bricker.util.StartupTimer;
 import danogl.GameManager;
 import danogl.GameObject;
 import danogl.collisions.Layer;
@@ -10,10 +25,15 @@ import danogl.components.CoordinateSpace;
 import danogl.gui.*;
 import danogl.gui.rendering.Camera;
 import danogl.gui.rendering.Renderable;
-import danogl.util.Counter;
 import danogl.util.Vector2;
+import java.awt.Graphics2D;
 import java.awt.event.KeyEvent;
-import java.util.Random;
+import java.io.DataInput;
+import java.io.DataOutput;
+import java.io.IOException;
+import java.util.Arrays;
+import java.util.HashMap;
+import java.util.Map;
 
 /**
  * The `BrickerGameManager` class is the main class managing the Bricker game. It extends
@@ -37,18 +57,52 @@ public class BrickerGameManager extends GameManager {
     private static final Vector2 HEART_DIMENSIONS = new Vector2(20, 15);
     private static final int WINDOW_WIDTH = 700;
     private static final int WINDOW_HEIGHT = 500;
+    private static final float PERF_HUD_OFFSET = 150;
+    /** The first int of every save state, "BRKG". */
+    public static final int SAVE_MAGIC = 0x42524B47;
+    /** The version of the save state format. */
+    public static final short SAVE_VERSION = 1;
+    private static final float DEFAULT_TIME_STEP = 1f / 60;
+    private static final int MAX_STEPS_PER_FRAME = 5;
+    private static final int SNAPSHOT_CATEGORIES = CollisionCategories.BALLS |
+            CollisionCategories.HEART | CollisionCategories.PADDLE |
+            CollisionCategories.EXTRA_PADDLE;
+    private static final int SAVED_OBJECTS_CAPACITY = 64;
+    private static final int TRANSIENT_CATEGORIES = CollisionCategories.PUCK |
+            CollisionCategories.HEART | CollisionCategories.EXTRA_PADDLE;
     private int rowsOfBricks, bricksInRow;
     private Ball ball;
     private Vector2 windowDimensions;
     private WindowController windowController;
     private Life life;
-    private Counter counter = new Counter();
     private UserInputListener inputListener;
     private int cameraCollisionCounter;
+    private BrickField brickField;
+    private AssetRegistry assets;
+    private OffScreenCuller culler;
+    private SweptCollider sweptCollider;
+    private GameEvents events;
+    private final long seed;
+    private final GameRandom rand;
+    private final FrameProfiler profiler = new FrameProfiler();
+    private final StartupTimer startupTimer = new StartupTimer();
+    private boolean firstUpdateMarked, firstFrameMarked;
+    private final FixedStepClock clock = new FixedStepClock(DEFAULT_TIME_STEP,
+            MAX_STEPS_PER_FRAME);
+    private final RenderInterpolator renderInterpolator = new RenderInterpolator();
+    private final ViewportCuller viewportCuller = new ViewportCuller();
+    private boolean gameOver;
+    private InputRecorder inputRecorder;
+    private Level level;
+    private int livesLost;
+    private int gamesStarted;
+    private boolean restartRequested;
+    private GameObject userPaddle;
+    private BrickedStrategyFactory brickedStrategyFactory;
 
     /**
      * Constructs a new `BrickerGameManager` with the specified window title, window dimensions,
-     * rows of bricks, and bricks in a row.
+     * rows of bricks, and bricks in a row. The game is seeded from the clock.
      * @param windowTitle      The title of the game window.
      * @param windowDimensions The dimensions of the game window.
      * @param rowsOfBricks     The number of rows of bricks in the game.
@@ -56,13 +110,32 @@ public class BrickerGameManager extends GameManager {
      */
     public BrickerGameManager(String windowTitle, Vector2 windowDimensions, int rowsOfBricks,
                               int bricksInRow) {
+        this(windowTitle, windowDimensions, rowsOfBricks, bricksInRow, System.nanoTime());
+    }
+
+    /**
+     * Constructs a new `BrickerGameManager` whose every random choice comes from the given
+     * seed, so that the same seed and the same input play the same game.
+     * @param windowTitle      The title of the game window.
+     * @param windowDimensions The dimensions of the game window.
+     * @param rowsOfBricks     The number of rows of bricks in the game.
+     * @param bricksInRow      The number of bricks in each row.
+     * @param seed             The seed of the game.
+     */
+    public BrickerGameManager(String windowTitle, Vector2 windowDimensions, int rowsOfBricks,
+                              int bricksInRow, long seed) {
         super(windowTitle, windowDimensions);
         this.rowsOfBricks = rowsOfBricks;
         this.bricksInRow = bricksInRow;
+        this.seed = seed;
+        this.rand = new GameRandom(seed);
     }
 
     /**
      * Initializes the game by creating and configuring various game objects.
+     * The images and sounds of the game are loaded on the first initialization only,
+     * and shared by every later game; the images are then packed into a sprite atlas,
+     * each scaled to the size it is drawn at.
      * @param imageReader      The image reader for loading game images.
      * @param soundReader      The sound reader for loading game sounds.
      * @param inputListener    The input listener for handling user input.
@@ -77,33 +150,370 @@ public class BrickerGameManager extends GameManager {
         super.initializeGame(imageReader, soundReader, inputListener, windowController);
         windowDimensions = windowController.getWindowDimensions();
         this.inputListener = inputListener;
-        createBackground(imageReader);
-        createBall(imageReader, soundReader, windowController);
-        Renderable paddleImage = imageReader.readImage(
-                "assets/paddle.png", true);
-        createUserPaddle(paddleImage, inputListener, windowDimensions);
+        livesLost = 0;
+        gameOver = false;
+        restartRequested = false;
+        gamesStarted++;
+        clock.reset();
+        if (assets == null) {
+            assets = new AssetRegistry(imageReader, soundReader);
+            startupTimer.mark("assets loaded");
+            assets.packSprites(spriteSizes());
+            startupTimer.mark("sprites packed");
+        }
+        createBackground();
+        events = new GameEvents();
+        events.subscribe(GameEvents.BRICK_DESTROYED, this::onGameEvent);
+        events.subscribe(GameEvents.BALL_LOST, this::onGameEvent);
+        events.subscribe(GameEvents.CAMERA_ACTIVATED, this::onGameEvent);
+        events.subscribe(GameEvents.BALL_BOUNCED, this::onGameEvent);
+        createBall(windowController);
+        createUserPaddle(assets.image(AssetRegistry.PADDLE_IMAGE), inputListener,
+                windowDimensions);
         createBorders(windowDimensions);
-        Renderable heartImage = imageReader.readImage(
-                "assets/heart.png", true);
         life = new Life(new Vector2(BORDER_WIDTH, windowDimensions.y()-20),
-                HEART_DIMENSIONS, heartImage,gameObjects(), START_LIFE, MAX_LIFE);
-        BrickedStrategyFactory brickedStrategyFactory = new BrickedStrategyFactory
-                (gameObjects(), counter, ball.getDimensions(),imageReader, soundReader,
+                HEART_DIMENSIONS, assets.image(AssetRegistry.HEART_IMAGE),gameObjects(),
+                START_LIFE, MAX_LIFE);
+        events.subscribe(GameEvents.LIFE_GAINED, life);
+        createBrickField();
+        sweptCollider = new SweptCollider(brickField);
+        culler = new OffScreenCuller(gameObjects(), windowDimensions);
+        brickedStrategyFactory = new BrickedStrategyFactory
+                (gameObjects(), events, ball.getDimensions(),assets,
                         BALL_SPEED,windowDimensions, PADDLE_WIDTH, PADDLE_HEIGHT, inputListener,
-                this,ball,HEART_DIMENSIONS,life);
-        createBrick(imageReader, brickedStrategyFactory);
+                this,ball,HEART_DIMENSIONS,brickField,culler,rand);
+        createBrick(brickedStrategyFactory);
+        gameObjects().addGameObject(brickField, BrickField.LAYER);
+        startupTimer.mark("bricks placed");
+        gameObjects().addGameObject(new PerfHud(
+                new Vector2(BORDER_WIDTH + PERF_HUD_OFFSET, windowDimensions.y()),
+                gameObjects(), inputListener, profiler, brickField), Layer.UI);
+        startupTimer.mark("game initialized");
+    }
+
+    /**
+     * Gets the culler of the transient objects, whose per frame cull count is a metric.
+     * @return The off screen culler, or null before the game is initialized.
+     */
+    public OffScreenCuller getCuller() {
+        return culler;
+    }
+
+    /**
+     * Gets the preloaded images and sounds of the game.
+     * @return The asset registry, or null before the game is initialized.
+     */
+    public AssetRegistry getAssets() {
+        return assets;
+    }
+
+    /**
+     * Gets the seed the game was created with.
+     * @return The seed.
+     */
+    public long getSeed() {
+        return seed;
     }
 
     /**
-     * Overrides the update method to include additional logic for checking the game's end condition.
+     * Gets the random source every random choice of the game is drawn from.
+     * @return The random source of the game.
+     */
+    public GameRandom getRandom() {
+        return rand;
+    }
+
+    /**
+     * Gets the profiler that times the phases of every frame of the game.
+     * @return The frame profiler.
+     */
+    public FrameProfiler getProfiler() {
+        return profiler;
+    }
+
+    /**
+     * Gets the timer of the startup of the game, from the construction of the manager to
+     * the first frame.
+     * @return The startup timer.
+     */
+    public StartupTimer getStartupTimer() {
+        return startupTimer;
+    }
+
+    /**
+     * Gets the brick field of the current game.
+     * @return The brick field, or null before the game is initialized.
+     */
+    public BrickField getBrickField() {
+        return brickField;
+    }
+
+    /**
+     * Gets the pool of the pucks of the current game.
+     * @return The puck pool, or null before the game is initialized or if no brick of the
+     *         game has the puck strategy.
+     */
+    public PuckPool getPuckPool() {
+        // The pool is created with the puck strategy, which may first be built after a restart
+        return brickedStrategyFactory == null ? null : brickedStrategyFactory.getPuckPool();
+    }
+
+    /**
+     * Gets the number of times the ball fell below the window in the current game,
+     * including the fall that lost the game.
+     * @return The number of lives lost.
+     */
+    public int getLivesLost() {
+        return livesLost;
+    }
+
+    /**
+     * Writes the complete state of the current game, between two simulation steps, in a
+     * compact big endian form: the size of the brick field, the state of the random source,
+     * the lives, the camera, the ball and the user paddle, the alive bits of the brick cells
+     * followed by the strategy code of every alive brick, and the pucks, hearts and extra
+     * paddle in the order they are in the game. Every moving object is saved with its
+     * position and velocity.
+     * @param output The output to write to.
+     * @throws IOException If the output cannot be written.
+     */
+    public void save(DataOutput output) throws IOException {
+        output.writeInt(SAVE_MAGIC);
+        output.writeShort(SAVE_VERSION);
+        output.writeInt(brickField.getRows());
+        output.writeInt(brickField.getCols());
+        output.writeLong(rand.getState());
+        output.writeByte(life.getRemainingLives());
+        output.writeInt(livesLost);
+        output.writeBoolean(camera() != null);
+        output.writeInt(cameraCollisionCounter);
+        writeMotion(output, ball);
+        output.writeInt(ball.getCollisionCounter());
+        writeMotion(output, userPaddle);
+        long[] aliveWords = new long[brickField.getAliveWordCount()];
+        brickField.copyAliveWords(aliveWords);
+        int words = aliveWords.length;
+        while (words > 0 && aliveWords[words - 1] == 0) {
+            words--;
+        }
+        output.writeInt(words);
+        for (int word = 0; word < words; word++) {
+            output.writeLong(aliveWords[word]);
+        }
+        for (int word = 0; word < words; word++) {
+            for (long bits = aliveWords[word]; bits != 0; bits &= bits - 1) {
+                int index = word * Long.SIZE + Long.numberOfTrailingZeros(bits);
+                output.writeShort(brickField.getStrategy(index).getCode());
+            }
+        }
+        int transientObjects = 0;
+        for (GameObject gameObject : gameObjects().objectsInLayer(Layer.DEFAULT)) {
+            if (CollisionCategories.isIn(gameObject, TRANSIENT_CATEGORIES)) {
+                transientObjects++;
+            }
+        }
+        output.writeInt(transientObjects);
+        for (GameObject gameObject : gameObjects().objectsInLayer(Layer.DEFAULT)) {
+            int category = CollisionCategories.of(gameObject);
+            if ((category & TRANSIENT_CATEGORIES) == 0) {
+                continue;
+            }
+            output.writeByte(category);
+            writeMotion(output, gameObject);
+            if (category == CollisionCategories.EXTRA_PADDLE) {
+                output.writeInt(((ExtraPaddle) gameObject).getCollisionCounter());
+            }
+        }
+    }
+
+    /**
+     * Replaces the current game, between two simulation steps, with a game written by save.
+     * The objects of the current game are reused, so the brick field must have the size of
+     * the saved one. The whole save state is read before the game is changed, so the game is
+     * left as it was if reading fails.
+     * @param input The input to read from.
+     * @throws IOException If the input cannot be read.
+     * @throws IllegalArgumentException If the input is not a valid save state of a brick
+     *                                  field of this size.
+     */
+    public void restore(DataInput input) throws IOException {
+        if (input.readInt() != SAVE_MAGIC || input.readShort() != SAVE_VERSION) {
+            throw new IllegalArgumentException("Not a save state");
+        }
+        if (input.readInt() != brickField.getRows() ||
+                input.readInt() != brickField.getCols()) {
+            throw new IllegalArgumentException("Save state of a different brick field");
+        }
+        // The whole state is read and checked before the game is changed, so a corrupt save
+        // state leaves the current game as it was
+        long randomState = input.readLong();
+        int lives = input.readByte();
+        int savedLivesLost = input.readInt();
+        boolean cameraActive = input.readBoolean();
+        int savedCameraCollisionCounter = input.readInt();
+        float[] ballMotion = readMotion(input);
+        int ballCollisionCounter = input.readInt();
+        float[] paddleMotion = readMotion(input);
+        long[] aliveWords = readAliveWords(input);
+        int[] strategyCodes = readStrategyCodes(input, aliveWords);
+        int transientObjects = input.readInt();
+        if (lives < 1 || lives > MAX_LIFE || transientObjects < 0) {
+            throw new IllegalArgumentException("Corrupt save state");
+        }
+        int[] categories = new int[Math.min(transientObjects, SAVED_OBJECTS_CAPACITY)];
+        float[][] motions = new float[categories.length][];
+        int extraPaddleCollisionCounter = 0;
+        boolean extraPaddleSaved = false;
+        for (int i = 0; i < transientObjects; i++) {
+            if (i == categories.length) {
+                categories = Arrays.copyOf(categories, categories.length * 2);
+                motions = Arrays.copyOf(motions, categories.length);
+            }
+            categories[i] = input.readByte();
+            motions[i] = readMotion(input);
+            if (categories[i] == CollisionCategories.EXTRA_PADDLE && !extraPaddleSaved) {
+                extraPaddleCollisionCounter = input.readInt();
+                extraPaddleSaved = true;
+            } else if (categories[i] != CollisionCategories.PUCK &&
+                    categories[i] != CollisionCategories.HEART) {
+                throw new IllegalArgumentException("Corrupt save state");
+            }
+        }
+        restartRequested = false;
+        gameOver = false;
+        clock.reset();
+        events.clear();
+        removeTransientObjects();
+        rand.setState(randomState);
+        setLives(lives);
+        livesLost = savedLivesLost;
+        applyMotion(ball, ballMotion);
+        ball.setCollisionCounter(ballCollisionCounter);
+        applyMotion(userPaddle, paddleMotion);
+        restoreBricks(aliveWords, strategyCodes);
+        for (int i = 0; i < transientObjects; i++) {
+            restoreTransientObject(categories[i], motions[i], extraPaddleCollisionCounter);
+        }
+        setCamera(cameraActive ? ((CameraStrategy) brickedStrategyFactory.getStrategy(
+                StrategyCodes.of(StrategyCodes.CAMERA))).getCamera() : null);
+        cameraCollisionCounter = savedCameraCollisionCounter;
+    }
+
+    /**
+     * Gets the number of games started, the first one included. A game started after
+     * "Play again?" reuses the objects of the previous game rather than initializing a new
+     * one.
+     * @return The number of games started.
+     */
+    public int getGamesStarted() {
+        return gamesStarted;
+    }
+
+    /**
+     * Gets the dimensions of the window of the current game.
+     * @return The window dimensions, or null before the game is initialized.
+     */
+    public Vector2 getWindowDimensions() {
+        return windowDimensions;
+    }
+
+    /**
+     * Records the state of the current game a display needs into a snapshot: the alive
+     * bricks, the balls, pucks, hearts and paddles, the remaining lives and the camera.
+     * @param snapshot The snapshot, cleared for the new frame.
+     */
+    public void capture(GameSnapshot snapshot) {
+        snapshot.setBricks(brickField);
+        snapshot.setLives(life.getRemainingLives());
+        Camera camera = camera();
+        if (camera != null) {
+            snapshot.setCamera(camera.getCenter(), camera.getDimensions());
+        }
+        for (GameObject gameObject : gameObjects().objectsInLayer(Layer.DEFAULT)) {
+            int category = CollisionCategories.of(gameObject);
+            if ((category & SNAPSHOT_CATEGORIES) != 0) {
+                snapshot.addObject(category, gameObject.getTopLeftCorner(),
+                        gameObject.getDimensions());
+            }
+        }
+    }
+
+    /**
+     * Sets the level whose bricks every following game starts with, in place of a random
+     * layout of rowsOfBricks by bricksInRow bricks.
+     * @param level The level, or null for a random layout.
+     */
+    public void setLevel(Level level) {
+        this.level = level;
+    }
+
+    /**
+     * Records the input of every following frame, so the game can be replayed later.
+     * @param inputRecorder The recorder, or null to stop recording.
+     */
+    public void setInputRecorder(InputRecorder inputRecorder) {
+        this.inputRecorder = inputRecorder;
+    }
+
+    /**
+     * Gets the clock that turns frame times into fixed simulation steps.
+     * @return The fixed step clock.
+     */
+    public FixedStepClock getClock() {
+        return clock;
+    }
+
+    /**
+     * Sets the length of a simulation step. The game is simulated in steps of this length
+     * whatever the frame rate is, 60 steps a second by default.
+     * @param stepSeconds The length of a simulation step, in seconds.
+     */
+    public void setFixedTimeStep(float stepSeconds) {
+        clock.setStepSeconds(stepSeconds);
+    }
+
+    /**
+     * Overrides the update method to advance the game by fixed simulation steps. The time
+     * of the frame is accumulated, and every step it completes is simulated, up to a few
+     * steps per frame. A step resolves the brick hits, removes transient objects that left
+     * the game and dispatches the game events published meanwhile, which end the game,
+     * and is timed by the profiler of the game. The game stops stepping once it ended.
      * @param deltaTime The time passed since the last update,
      */
     @Override
     public void update(float deltaTime) {
-        super.update(deltaTime);
-        checkForGameEnd();
-        if(ball.getCollisionCounter() - cameraCollisionCounter > 4){
-            setCamera(null);
+        if (inputRecorder != null) {
+            inputRecorder.recordFrame(deltaTime, inputListener);
+        }
+        int steps = clock.advance(deltaTime);
+        for (int i = 0; i < steps && !gameOver; i++) {
+            renderInterpolator.capture(gameObjects().objectsInLayer(Layer.DEFAULT));
+            step(clock.getStepSeconds());
+        }
+        if (restartRequested) {
+            restart();
+        }
+        assets.flushSounds();
+        if (!firstUpdateMarked) {
+            firstUpdateMarked = true;
+            startupTimer.mark("first update");
+        }
+    }
+
+    private void step(float stepSeconds) {
+        long updateStartTime = System.nanoTime();
+        super.update(stepSeconds);
+        long collisionStartTime = System.nanoTime();
+        sweptCollider.resolveCollisions(gameObjects().objectsInLayer(Layer.DEFAULT),
+                gameObjects().objectsInLayer(Layer.STATIC_OBJECTS));
+        profiler.record(FrameProfiler.COLLISION, collisionStartTime);
+        culler.cull();
+        profiler.record(FrameProfiler.UPDATE, updateStartTime);
+        events.dispatch();
+        // A level with no bricks publishes no BRICK_DESTROYED, so it is won on its first step
+        if (!gameOver && (brickField.getAliveCount() == 0 ||
+                inputListener.isKeyPressed(KeyEvent.VK_W))) {
+            endGame("You Win!");
         }
     }
 
@@ -113,135 +523,368 @@ public class BrickerGameManager extends GameManager {
      * are provided, default values are used.
      *
      * @param args Command-line arguments specifying the number of bricks in a row and rows of bricks.
-     *             If not provided, default values are used.
+     *             If not provided, default values are used. An optional third argument is
+     *             a file to record the game's input to, for replaying it headlessly.
+     *             A single argument is a level file to play instead.
      */
     public static void main(String[] args) {
         int bricksInRow;
         int rowsOfBricks;
+        Level level = null;
         if (args.length == 0){
             bricksInRow = ROWS_OF_BRICKS;
             rowsOfBricks = BRICKS_IN_ROW;
         }
+        else if (args.length == 1){
+            level = Level.load(args[0]);
+            bricksInRow = level.getCols();
+            rowsOfBricks = level.getRows();
+        }
         else{
             bricksInRow = Integer.parseInt(args[0]);
             rowsOfBricks = Integer.parseInt(args[1]);
         }
-        new BrickerGameManager(
-                "Bouncing Ball",
-                new Vector2(WINDOW_WIDTH, WINDOW_HEIGHT), rowsOfBricks, bricksInRow).run();
+        Vector2 windowDimensions = new Vector2(WINDOW_WIDTH, WINDOW_HEIGHT);
+        BrickerGameManager gameManager = new BrickerGameManager(
+                "Bouncing Ball", windowDimensions, rowsOfBricks, bricksInRow);
+        gameManager.setLevel(level);
+        if (args.length >= 3) {
+            InputRecorder recorder = new InputRecorder(args[2], gameManager.getSeed(),
+                    windowDimensions, rowsOfBricks, bricksInRow);
+            gameManager.setInputRecorder(recorder);
+            Runtime.getRuntime().addShutdownHook(new Thread(recorder::close));
+        }
+        gameManager.run();
     }
 
+    /**
+     * Renders the game between its last two simulation steps, timed by the profiler of
+     * the game. While a following camera is active, objects and bricks outside its view
+     * are not drawn. The startup report is printed once the first frame is rendered.
+     * @param g The graphics context to render to.
+     */
+    @Override
+    public void render(Graphics2D g) {
+        long startTime = System.nanoTime();
+        renderInterpolator.interpolate(clock.getAlpha());
+        Camera camera = camera();
+        if (camera != null) {
+            viewportCuller.cull(camera, brickField,
+                    gameObjects().objectsInLayer(Layer.DEFAULT));
+        }
+        super.render(g);
+        viewportCuller.restore();
+        renderInterpolator.restore();
+        profiler.record(FrameProfiler.RENDER, startTime);
+        // Marked once, so later frames do not time and box a milestone that is already set
+        if (!firstFrameMarked) {
+            firstFrameMarked = true;
+            startupTimer.mark("first frame");
+            System.out.print(startupTimer);
+        }
+    }
+
+    /**
+     * Sets the camera of the game. Setting a following camera starts counting the ball
+     * collisions after which it switches back from the current collision count of the ball.
+     * Switching back to the default camera is recorded as a CameraSwitchEvent; switching to
+     * a following camera is recorded by CameraStrategy.
+     * @param camera The camera, or null for the default camera.
+     */
     @Override
     public void setCamera(Camera camera) {
+        if (camera == null && camera() != null && ball != null) {
+            CameraSwitchEvent.switched("ball collisions", false, ball.getCollisionCounter());
+        }
         super.setCamera(camera);
-        if(ball!=null) {
-            this.cameraCollisionCounter = ball.getCollisionCounter();
+        if (camera != null && ball != null) {
+            cameraCollisionCounter = ball.getCollisionCounter();
         }
     }
 
-    private void checkForGameEnd() {
-        float ballHeight = ball.getCenter().y();
-        String prompt = "";
-        if(ballHeight > windowDimensions.y()) {
-            if (life.getRemainingLives() == 1) {
-                //we lost
-                prompt = "You Lose!";
+    private void onGameEvent(int type, int payload) {
+        if (gameOver) {
+            return;
+        }
+        switch (type) {
+            case GameEvents.BRICK_DESTROYED:
+                if (payload <= 0) {
+                    endGame("You Win!");
+                }
+                break;
+            case GameEvents.BALL_LOST:
+                livesLost++;
+                if (life.getRemainingLives() == 1) {
+                    endGame("You Lose!");
+                } else {
+                    ball.setCenter(windowDimensions.mult(0.5f));
+                    setBallDirections();
+                    life.removeLife();
+                }
+                break;
+            case GameEvents.CAMERA_ACTIVATED:
+                cameraCollisionCounter = payload;
+                break;
+            case GameEvents.BALL_BOUNCED:
+                // Bounces published before the camera was set carry a count at or below
+                // cameraCollisionCounter, so they never switch it back
+                if (camera() != null && payload - cameraCollisionCounter > 4) {
+                    setCamera(null);
+                }
+                break;
+            default:
+                break;
+        }
+    }
+
+    private void endGame(String prompt) {
+        gameOver = true;
+        prompt += " Play again?";
+        if (windowController.openYesNoDialog(prompt)) {
+            restartRequested = true;
+        } else {
+            if (inputRecorder != null) {
+                inputRecorder.close();
+                inputRecorder = null;
             }
-            else {
-                ball.setCenter(windowDimensions.mult(0.5f));
-                setBallDirections();
-                life.removeLife();
+            windowController.closeWindow();
+        }
+    }
+
+    private void restart() {
+        restartRequested = false;
+        gameOver = false;
+        livesLost = 0;
+        cameraCollisionCounter = 0;
+        gamesStarted++;
+        clock.reset();
+        events.clear();
+        setCamera(null);
+        ball.setCollisionCounter(0);
+        removeTransientObjects();
+        setLives(START_LIFE);
+        ball.setCenter(windowDimensions.mult(0.5f));
+        setBallDirections();
+        centerUserPaddle();
+        brickField.clear();
+        createBrick(brickedStrategyFactory);
+    }
+
+    private void removeTransientObjects() {
+        for (GameObject gameObject : gameObjects().objectsInLayer(Layer.DEFAULT)) {
+            if (gameObject != ball && gameObject != userPaddle) {
+                culler.retire(gameObject);
             }
         }
-        if(counter.value() <= 0 || inputListener.isKeyPressed(KeyEvent.VK_W)){
-            //we won
-            prompt = "You Win!";
+        culler.cull();
+    }
+
+    private void setLives(int lives) {
+        while (life.getRemainingLives() < lives) {
+            life.addLife();
+        }
+        while (life.getRemainingLives() > lives) {
+            life.removeLife();
+        }
+    }
+
+    private static void writeMotion(DataOutput output, GameObject gameObject)
+            throws IOException {
+        output.writeFloat(gameObject.getTopLeftCorner().x());
+        output.writeFloat(gameObject.getTopLeftCorner().y());
+        output.writeFloat(gameObject.getVelocity().x());
+        output.writeFloat(gameObject.getVelocity().y());
+    }
+
+    private static float[] readMotion(DataInput input) throws IOException {
+        return new float[] {input.readFloat(), input.readFloat(), input.readFloat(),
+                input.readFloat()};
+    }
+
+    private static void applyMotion(GameObject gameObject, float[] motion) {
+        gameObject.setTopLeftCorner(new Vector2(motion[0], motion[1]));
+        gameObject.setVelocity(new Vector2(motion[2], motion[3]));
+    }
+
+    private long[] readAliveWords(DataInput input) throws IOException {
+        int words = input.readInt();
+        if (words < 0 || words > brickField.getAliveWordCount()) {
+            throw new IllegalArgumentException("Corrupt save state");
+        }
+        long[] aliveWords = new long[words];
+        for (int i = 0; i < words; i++) {
+            aliveWords[i] = input.readLong();
+        }
+        int usedBits = brickField.getCellCount() % Long.SIZE;
+        if (words == brickField.getAliveWordCount() && usedBits != 0 &&
+                (aliveWords[words - 1] & (-1L << usedBits)) != 0) {
+            throw new IllegalArgumentException("Corrupt save state");
+        }
+        return aliveWords;
+    }
+
+    private static int[] readStrategyCodes(DataInput input, long[] aliveWords)
+            throws IOException {
+        int alive = 0;
+        for (long word : aliveWords) {
+            alive += Long.bitCount(word);
         }
-        if (!prompt.isEmpty()) {
-            prompt += " Play again?";
-            if (windowController.openYesNoDialog(prompt)) {
-                counter.reset();
-                windowController.resetGame();
+        int[] strategyCodes = new int[alive];
+        for (int i = 0; i < alive; i++) {
+            strategyCodes[i] = input.readUnsignedShort();
+            if (strategyCodes[i] >= Level.NO_BRICK) {
+                throw new IllegalArgumentException("Corrupt save state");
             }
-            else
-                windowController.closeWindow();
         }
+        return strategyCodes;
     }
+
+    private void restoreBricks(long[] aliveWords, int[] strategyCodes) {
+        brickField.clear();
+        CollisionStrategy[] strategies = new CollisionStrategy[Level.NO_BRICK];
+        int cols = brickField.getCols();
+        int brick = 0;
+        for (int word = 0; word < aliveWords.length; word++) {
+            for (long bits = aliveWords[word]; bits != 0; bits &= bits - 1) {
+                int index = word * Long.SIZE + Long.numberOfTrailingZeros(bits);
+                int code = strategyCodes[brick++];
+                if (strategies[code] == null) {
+                    strategies[code] = brickedStrategyFactory.getStrategy(code);
+                }
+                brickField.add(index / cols, index % cols, strategies[code]);
+            }
+        }
+    }
+
+    private void restoreTransientObject(int category, float[] motion,
+                                        int extraPaddleCollisionCounter) {
+        switch (category) {
+            case CollisionCategories.PUCK:
+                // Getting the puck strategy creates its pool if no brick had it yet
+                brickedStrategyFactory.getStrategy(StrategyCodes.of(StrategyCodes.PUCK));
+                Puck puck = getPuckPool().acquire(Vector2.ZERO, Vector2.ZERO);
+                applyMotion(puck, motion);
+                gameObjects().addGameObject(puck);
+                culler.track(puck);
+                break;
+            case CollisionCategories.HEART:
+                Heart heart = new Heart(Vector2.ZERO, HEART_DIMENSIONS,
+                        assets.image(AssetRegistry.HEART_IMAGE), culler, events);
+                applyMotion(heart, motion);
+                gameObjects().addGameObject(heart);
+                culler.track(heart);
+                break;
+            default:
+                ExtraPaddle extraPaddle = ((ExtraPaddleStrategy) brickedStrategyFactory
+                        .getStrategy(StrategyCodes.of(StrategyCodes.PADDLE))).getExtraPaddle();
+                applyMotion(extraPaddle, motion);
+                extraPaddle.resetCounters();
+                extraPaddle.incrementPaddleCounter();
+                extraPaddle.setCollisionCounter(extraPaddleCollisionCounter);
+                gameObjects().addGameObject(extraPaddle);
+                break;
+        }
+    }
+
     private void setBallDirections(){
             float ballVelX = BALL_SPEED;
             float ballVelY = BALL_SPEED;
-            Random rand = new Random();
             if(rand.nextBoolean())
                 ballVelX *= -1;
             if(rand.nextBoolean())
                 ballVelY *= -1;
             ball.setVelocity(new Vector2(ballVelX, ballVelY));
     }
-    private void createBall(ImageReader imageReader, SoundReader soundReader,
-                            WindowController windowController) {
-        Renderable ballImage =
-                imageReader.readImage("assets/ball.png", true);
-        Sound collisionSound = soundReader.readSound("assets/blop.wav");
+    private void createBall(WindowController windowController) {
         ball = new Ball(
-                Vector2.ZERO, new Vector2(BALL_RADIUS, BALL_RADIUS), ballImage, collisionSound);
+                Vector2.ZERO, new Vector2(BALL_RADIUS, BALL_RADIUS),
+                assets.image(AssetRegistry.BALL_IMAGE),
+                assets.cue(AssetRegistry.COLLISION_SOUND));
 
         Vector2 windowDimensions = windowController.getWindowDimensions();
         ball.setCenter(windowDimensions.mult(0.5f));
+        ball.publishTo(events, windowDimensions.y());
         gameObjects().addGameObject(ball);
         setBallDirections();
     }
 
     private void createUserPaddle(Renderable paddleImage, UserInputListener inputListener,
                                   Vector2 windowDimensions) {
-        GameObject userPaddle = new Paddle(
+        userPaddle = new Paddle(
                 Vector2.ZERO,
                 new Vector2(PADDLE_WIDTH, PADDLE_HEIGHT),
                 paddleImage,
                 inputListener, windowDimensions);
-        userPaddle.setCenter(
-                new Vector2(windowDimensions.x()/2, (int)windowDimensions.y()-30));
+        centerUserPaddle();
         gameObjects().addGameObject(userPaddle);
     }
 
     private void createBorders(Vector2 windowDimensions) {
-        gameObjects().addGameObject(
-                new GameObject(
-                        Vector2.ZERO,
-                        new Vector2(BORDER_WIDTH, windowDimensions.y()),
-                        BORDER_RENDERABLE), Layer.STATIC_OBJECTS);
-        gameObjects().addGameObject(
-                new GameObject(
-                        new Vector2(windowDimensions.x()-BORDER_WIDTH, 0),
-                        new Vector2(BORDER_WIDTH, windowDimensions.y()),
-                        BORDER_RENDERABLE), Layer.STATIC_OBJECTS);
-        gameObjects().addGameObject(
-                new GameObject(
-                        Vector2.ZERO,
-                        new Vector2(windowDimensions.x(), BORDER_WIDTH),
-                        BORDER_RENDERABLE), Layer.STATIC_OBJECTS);
-    }
-
-    private void createBackground(ImageReader imageReader){
-        Renderable backgroundImage = imageReader.readImage(
-                "assets/DARK_BG2_small.jpeg", false);
-        GameObject background = new GameObject(Vector2.ZERO, windowDimensions, backgroundImage);
+        createBorder(Vector2.ZERO, new Vector2(BORDER_WIDTH, windowDimensions.y()));
+        createBorder(new Vector2(windowDimensions.x()-BORDER_WIDTH, 0),
+                new Vector2(BORDER_WIDTH, windowDimensions.y()));
+        createBorder(Vector2.ZERO, new Vector2(windowDimensions.x(), BORDER_WIDTH));
+    }
+
+    private void createBorder(Vector2 topLeftCorner, Vector2 dimensions) {
+        gameObjects().addGameObject(new Border(topLeftCorner, dimensions, BORDER_RENDERABLE),
+                Layer.STATIC_OBJECTS);
+    }
+
+    private void createBackground(){
+        GameObject background = new GameObject(Vector2.ZERO, windowDimensions,
+                assets.image(AssetRegistry.BACKGROUND_IMAGE));
         background.setCoordinateSpace(CoordinateSpace.CAMERA_COORDINATES);
         gameObjects().addGameObject(background, Layer.BACKGROUND);
     }
 
-    private void createBrick(ImageReader imageReader, BrickedStrategyFactory brickedStrategyFactory){
-        Renderable brickImage = imageReader.readImage("assets/brick.png", true);
+    private Map<String, Vector2> spriteSizes() {
+        Map<String, Vector2> sizes = new HashMap<>();
+        Vector2 ballDimensions = new Vector2(BALL_RADIUS, BALL_RADIUS);
+        sizes.put(AssetRegistry.BALL_IMAGE, ballDimensions);
+        sizes.put(AssetRegistry.PUCK_IMAGE, ballDimensions.mult(Puck.PUCK_SCALE));
+        sizes.put(AssetRegistry.PADDLE_IMAGE, new Vector2(PADDLE_WIDTH, PADDLE_HEIGHT));
+        sizes.put(AssetRegistry.HEART_IMAGE, HEART_DIMENSIONS);
+        sizes.put(AssetRegistry.BRICK_IMAGE, brickDimensions());
+        sizes.put(AssetRegistry.BACKGROUND_IMAGE, windowDimensions);
+        return sizes;
+    }
+
+    private Vector2 brickDimensions() {
+        if (level != null) {
+            return level.getBrickDimensions();
+        }
         float brickWidth = (windowDimensions.x() - (BORDER_WIDTH*2)) / bricksInRow;
-        Vector2 topLeftCorner = new Vector2(BORDER_WIDTH, BORDER_WIDTH);
-        for (int i = 0; i < rowsOfBricks; i++) {
-            for (int j = 0; j < bricksInRow; j++) {
-                GameObject brick = new Brick(topLeftCorner, new Vector2(brickWidth, BRICK_HEIGHT),
-                        brickImage, brickedStrategyFactory.getStrategy());
-                gameObjects().addGameObject(brick,Layer.STATIC_OBJECTS);
-                topLeftCorner = new Vector2(topLeftCorner.x() + brickWidth + 1, topLeftCorner.y());
-                counter.increment();
+        return new Vector2(brickWidth, BRICK_HEIGHT);
+    }
+
+    private void centerUserPaddle() {
+        userPaddle.setCenter(
+                new Vector2(windowDimensions.x()/2, (int)windowDimensions.y()-30));
+    }
+
+    private void createBrickField(){
+        if (level != null) {
+            brickField = level.createBrickField(assets.image(AssetRegistry.BRICK_IMAGE),
+                    profiler);
+        } else {
+            brickField = new BrickField(new Vector2(BORDER_WIDTH, BORDER_WIDTH),
+                    brickDimensions(), 1, rowsOfBricks, bricksInRow,
+                    assets.image(AssetRegistry.BRICK_IMAGE), profiler);
+        }
+        // Bricks are resolved by the field, the engine must not test them against balls
+        gameObjects().layers().shouldLayersCollide(Layer.DEFAULT, BrickField.LAYER, false);
+    }
+
+    private void createBrick(BrickedStrategyFactory brickedStrategyFactory){
+        if (level != null) {
+            level.fill(brickField, brickedStrategyFactory::getStrategy);
+        } else {
+            for (int i = 0; i < rowsOfBricks; i++) {
+                for (int j = 0; j < bricksInRow; j++) {
+                    brickField.add(i, j, brickedStrategyFactory.getStrategy());
+                }
             }
-            topLeftCorner = new Vector2(BORDER_WIDTH, topLeftCorner.y() + BRICK_HEIGHT + 1);
         }
     }
 }
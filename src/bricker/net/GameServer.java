@@ -0,0 +1,300 @@
+/**
+ * Package bricker.net contains the snapshot server that streams the state of a game to
+ * displays in other processes, and its clients.
+ */
+package bricker.net;
+
+import bricker.gameobjects.BrickField;
+import bricker.main.BrickerGameManager;
+import bricker.simulation.HeadlessSimulation;
+import bricker.util.LatencyHistogram;
+import danogl.util.Vector2;
+import java.io.BufferedInputStream;
+import java.io.BufferedOutputStream;
+import java.io.DataInputStream;
+import java.io.DataOutputStream;
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.net.InetAddress;
+import java.net.ServerSocket;
+import java.net.Socket;
+import java.util.concurrent.CopyOnWriteArrayList;
+
+/**
+ * The GameServer class runs the game logic of a BrickerGameManager, through a headless
+ * simulation, and streams its state to displays in other processes over localhost sockets.
+ * A client is first sent the window dimensions and the layout of the brick field, then a
+ * snapshot every simulation step, encoded by SnapshotCodec against the newest snapshot it
+ * acknowledged, or in full while it has acknowledged none the server still keeps or after
+ * it reported a snapshot that failed its checksum.
+ * Every client is encoded for separately, so a slow display only gets larger messages.
+ * The server counts the bytes and encode time of every message it sends.
+ * @author Shay Abbou & Shaked Hartal
+ */
+public class GameServer implements AutoCloseable {
+    /** The first int sent to every client, "BRKS". */
+    public static final int MAGIC = 0x42524B53;
+    /** The version of the protocol. */
+    public static final short VERSION = 1;
+    /** The port the server listens on by default. */
+    public static final int DEFAULT_PORT = 7531;
+    private static final int WINDOW_WIDTH = 700;
+    private static final int WINDOW_HEIGHT = 500;
+    private static final int ROWS_OF_BRICKS = 7;
+    private static final int BRICKS_IN_ROW = 8;
+    private static final long DEFAULT_SEED = 42;
+    private static final long DEFAULT_FRAMES = 3600;
+    private static final float TIME_STEP = 1f / 60;
+    private final HeadlessSimulation simulation;
+    private final ServerSocket serverSocket;
+    private final CopyOnWriteArrayList<ClientConnection> clients =
+            new CopyOnWriteArrayList<>();
+    private final GameSnapshot snapshot = new GameSnapshot();
+    private final SnapshotHistory history = new SnapshotHistory();
+    private final SnapshotCodec codec = new SnapshotCodec();
+    private final LatencyHistogram encodeTimes = new LatencyHistogram();
+    private final float timeStep;
+    private int frame;
+    private long messagesSent, fullMessagesSent, bytesSent;
+    private int clientsServed;
+
+    /**
+     * Constructs a GameServer and starts accepting clients on a localhost port.
+     * @param simulation The headless simulation of the game to stream.
+     * @param timeStep   The fixed time step of the simulation, in seconds.
+     * @param port       The port to listen on, or 0 for any free port.
+     * @throws UncheckedIOException If the port cannot be listened on.
+     */
+    public GameServer(HeadlessSimulation simulation, float timeStep, int port) {
+        this.simulation = simulation;
+        this.timeStep = timeStep;
+        try {
+            serverSocket = new ServerSocket(port, 0, InetAddress.getLoopbackAddress());
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+        simulation.initialize();
+        Thread acceptor = new Thread(this::acceptClients, "snapshot-acceptor");
+        acceptor.setDaemon(true);
+        acceptor.start();
+    }
+
+    /**
+     * Gets the port the server listens on.
+     * @return The port.
+     */
+    public int getPort() {
+        return serverSocket.getLocalPort();
+    }
+
+    /**
+     * Gets the number of clients currently connected.
+     * @return The number of clients.
+     */
+    public int getClientCount() {
+        return clients.size();
+    }
+
+    /**
+     * Waits until the given number of clients are connected.
+     * @param count The number of clients.
+     * @throws InterruptedException If the thread is interrupted while waiting.
+     */
+    public void awaitClients(int count) throws InterruptedException {
+        synchronized (clients) {
+            while (clients.size() < count) {
+                clients.wait();
+            }
+        }
+    }
+
+    /**
+     * Runs the game for a number of simulation steps, sending a snapshot of every step to
+     * every connected client.
+     * @param frames   The number of steps.
+     * @param realTime True to run a step every time step, as a display would, false to run
+     *                 as fast as the CPU allows.
+     * @throws InterruptedException If the thread is interrupted while waiting for a step.
+     */
+    public void serve(long frames, boolean realTime) throws InterruptedException {
+        long start = System.nanoTime();
+        long stepNanos = (long) (timeStep * 1e9);
+        for (long i = 0; i < frames; i++) {
+            if (!simulation.step(timeStep)) {
+                break;
+            }
+            broadcast();
+            if (realTime) {
+                long sleepNanos = start + (i + 1) * stepNanos - System.nanoTime();
+                if (sleepNanos > 0) {
+                    Thread.sleep(sleepNanos / 1_000_000, (int) (sleepNanos % 1_000_000));
+                }
+            }
+        }
+    }
+
+    /**
+     * Stops accepting clients and disconnects the connected ones.
+     */
+    @Override
+    public void close() {
+        try {
+            serverSocket.close();
+        } catch (IOException ignored) {
+        }
+        for (ClientConnection client : clients) {
+            client.close();
+        }
+    }
+
+    /**
+     * Summarizes the messages sent: their size, the bandwidth they take at the simulation
+     * rate, and the time to encode them.
+     * @return A multi-line report.
+     */
+    public String report() {
+        double bytesPerMessage = messagesSent == 0 ? 0 : (double) bytesSent / messagesSent;
+        return String.format("%d snapshots to %d clients, %d in full: %.1f bytes each, " +
+                        "%.2f KB/s per client at %.0f snapshots/s%n" +
+                        "encode p50 %.1f us, p99 %.1f us, max %.1f us%n",
+                messagesSent, clientsServed, fullMessagesSent, bytesPerMessage,
+                bytesPerMessage / timeStep / 1024, 1 / timeStep,
+                encodeTimes.getValueAtPercentile(50) / 1e3,
+                encodeTimes.getValueAtPercentile(99) / 1e3, encodeTimes.getMax() / 1e3);
+    }
+
+    private void broadcast() {
+        frame++;
+        snapshot.clear(frame);
+        simulation.getGameManager().capture(snapshot);
+        history.put(snapshot);
+        for (ClientConnection client : clients) {
+            long startTime = System.nanoTime();
+            GameSnapshot baseline = history.get(client.acknowledgedFrame);
+            int length = codec.encode(snapshot, baseline);
+            encodeTimes.record(System.nanoTime() - startTime);
+            if (!client.send(codec.getBuffer(), length)) {
+                clients.remove(client);
+                continue;
+            }
+            messagesSent++;
+            bytesSent += length + Integer.BYTES;
+            if (baseline == null) {
+                fullMessagesSent++;
+            }
+        }
+    }
+
+    private void acceptClients() {
+        while (!serverSocket.isClosed()) {
+            try {
+                Socket socket = serverSocket.accept();
+                socket.setTcpNoDelay(true);
+                ClientConnection client = new ClientConnection(socket);
+                client.sendLayout(simulation.getGameManager());
+                synchronized (clients) {
+                    clients.add(client);
+                    clientsServed++;
+                    clients.notifyAll();
+                }
+            } catch (IOException e) {
+                if (!serverSocket.isClosed()) {
+                    System.err.println("Client not accepted: " + e.getMessage());
+                }
+            }
+        }
+    }
+
+    /**
+     * Runs a game server until the given number of frames is streamed, and prints the
+     * size and encode time of its messages.
+     * @param args Command-line arguments specifying the port, the number of frames and the
+     *             number of clients to wait for before the game starts. If not provided,
+     *             default values are used. "fast" as a fourth argument runs the game as
+     *             fast as the CPU allows rather than in real time.
+     * @throws InterruptedException If the thread is interrupted.
+     */
+    public static void main(String[] args) throws InterruptedException {
+        int port = args.length >= 1 ? Integer.parseInt(args[0]) : DEFAULT_PORT;
+        long frames = args.length >= 2 ? Long.parseLong(args[1]) : DEFAULT_FRAMES;
+        int clients = args.length >= 3 ? Integer.parseInt(args[2]) : 1;
+        boolean realTime = args.length < 4 || !args[3].equals("fast");
+        HeadlessSimulation simulation = new HeadlessSimulation(
+                new Vector2(WINDOW_WIDTH, WINDOW_HEIGHT), ROWS_OF_BRICKS, BRICKS_IN_ROW,
+                TIME_STEP, DEFAULT_SEED);
+        try (GameServer server = new GameServer(simulation, TIME_STEP, port)) {
+            System.out.printf("Listening on port %d for %d clients%n", server.getPort(),
+                    clients);
+            server.awaitClients(clients);
+            server.serve(frames, realTime);
+            System.out.print(server.report());
+        }
+    }
+
+    private static class ClientConnection {
+        private final Socket socket;
+        private final DataOutputStream output;
+        private volatile int acknowledgedFrame = SnapshotCodec.NO_BASELINE;
+
+        ClientConnection(Socket socket) throws IOException {
+            this.socket = socket;
+            this.output = new DataOutputStream(
+                    new BufferedOutputStream(socket.getOutputStream()));
+            Thread reader = new Thread(this::readAcknowledgements, "snapshot-acks");
+            reader.setDaemon(true);
+            reader.start();
+        }
+
+        void sendLayout(BrickerGameManager gameManager) throws IOException {
+            BrickField brickField = gameManager.getBrickField();
+            Vector2 windowDimensions = gameManager.getWindowDimensions();
+            output.writeInt(MAGIC);
+            output.writeShort(VERSION);
+            output.writeFloat(windowDimensions.x());
+            output.writeFloat(windowDimensions.y());
+            output.writeInt(brickField.getRows());
+            output.writeInt(brickField.getCols());
+            output.writeFloat(brickField.getTopLeftCorner().x());
+            output.writeFloat(brickField.getTopLeftCorner().y());
+            output.writeFloat(brickField.getBrickDimensions().x());
+            output.writeFloat(brickField.getBrickDimensions().y());
+            output.writeFloat(brickField.getGap());
+            output.flush();
+        }
+
+        boolean send(byte[] message, int length) {
+            try {
+                output.writeInt(length);
+                output.write(message, 0, length);
+                output.flush();
+                return true;
+            } catch (IOException e) {
+                close();
+                return false;
+            }
+        }
+
+        void close() {
+            try {
+                socket.close();
+            } catch (IOException ignored) {
+            }
+        }
+
+        private void readAcknowledgements() {
+            try (DataInputStream input = new DataInputStream(
+                    new BufferedInputStream(socket.getInputStream()))) {
+                while (true) {
+                    int frame = input.readInt();
+                    // NO_BASELINE reports a snapshot that failed its checksum, so the
+                    // next one is sent in full
+                    if (frame == SnapshotCodec.NO_BASELINE || frame > acknowledgedFrame) {
+                        acknowledgedFrame = frame;
+                    }
+                }
+            } catch (IOException e) {
+                close();
+            }
+        }
+    }
+}
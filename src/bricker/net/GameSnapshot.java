@@ -0,0 +1,332 @@
+/**
+ * Package bricker.net contains the snapshot server that streams the state of a game to
+ * displays in other processes, and its clients.
+ */
+package bricker.net;
+
+import bricker.gameobjects.BrickField;
+import danogl.util.Vector2;
+import java.nio.ByteBuffer;
+import java.util.Arrays;
+import java.util.zip.CRC32;
+
+/**
+ * The GameSnapshot class is the state of a game a display needs to draw a frame: the alive
+ * bit of every brick cell, the position and size of every ball, puck, heart and paddle, the
+ * remaining lives and the view of the camera. Positions are kept in fixed point, in
+ * sixteenths of a pixel, so a snapshot decoded by a client is exactly the one the server
+ * encoded, and both compute the same checksum of it.
+ * A snapshot is reused from frame to frame, so capturing one does not allocate once its
+ * arrays are large enough.
+ * @author Shay Abbou & Shaked Hartal
+ */
+public class GameSnapshot {
+    /** The number of fixed point units in a pixel. */
+    public static final float POSITION_SCALE = 16;
+    /** The number of ints of every object: left, top, width and height. */
+    static final int OBJECT_FIELDS = 4;
+    private static final int INITIAL_CAPACITY = 16;
+    private int frame;
+    private long[] brickWords = new long[0];
+    private int brickWordCount;
+    private int lives;
+    private boolean cameraActive;
+    private final int[] camera = new int[OBJECT_FIELDS];
+    private byte[] kinds = new byte[INITIAL_CAPACITY];
+    private int[] objects = new int[INITIAL_CAPACITY * OBJECT_FIELDS];
+    private int objectCount;
+    private final CRC32 crc = new CRC32();
+    private ByteBuffer checksumBuffer = ByteBuffer.allocate(0);
+
+    /**
+     * Forgets the state of the previous frame, before the state of a new one is recorded.
+     * The bricks are kept until setBricks is called.
+     * @param frame The number of the new frame.
+     */
+    public void clear(int frame) {
+        this.frame = frame;
+        lives = 0;
+        cameraActive = false;
+        Arrays.fill(camera, 0);
+        objectCount = 0;
+    }
+
+    /**
+     * Records the alive bricks of a brick field.
+     * @param brickField The brick field.
+     */
+    public void setBricks(BrickField brickField) {
+        setBrickWordCount(brickField.getAliveWordCount());
+        brickField.copyAliveWords(brickWords);
+    }
+
+    /**
+     * Records the number of remaining lives.
+     * @param lives The number of remaining lives.
+     */
+    public void setLives(int lives) {
+        this.lives = lives;
+    }
+
+    /**
+     * Records the view of a following camera. Without a call the default camera is assumed.
+     * @param center     The center of the view, in world coordinates.
+     * @param dimensions The size of the part of the world shown.
+     */
+    public void setCamera(Vector2 center, Vector2 dimensions) {
+        cameraActive = true;
+        camera[0] = toFixed(center.x());
+        camera[1] = toFixed(center.y());
+        camera[2] = toFixed(dimensions.x());
+        camera[3] = toFixed(dimensions.y());
+    }
+
+    /**
+     * Records a moving object.
+     * @param kind          The CollisionCategories category of the object.
+     * @param topLeftCorner The position of the object.
+     * @param dimensions    The size of the object.
+     */
+    public void addObject(int kind, Vector2 topLeftCorner, Vector2 dimensions) {
+        setObject(objectCount, kind, toFixed(topLeftCorner.x()), toFixed(topLeftCorner.y()),
+                toFixed(dimensions.x()), toFixed(dimensions.y()));
+    }
+
+    /**
+     * Gets the number of the frame of the snapshot.
+     * @return The frame number.
+     */
+    public int getFrame() {
+        return frame;
+    }
+
+    /**
+     * Gets the number of 64 bit words of the alive bits of the brick cells.
+     * @return The number of words.
+     */
+    public int getBrickWordCount() {
+        return brickWordCount;
+    }
+
+    /**
+     * Gets 64 alive bits of the brick cells, lowest cell in the lowest bit.
+     * @param index The index of the word.
+     * @return The word.
+     */
+    public long getBrickWord(int index) {
+        return brickWords[index];
+    }
+
+    /**
+     * Checks whether the brick of a cell is alive.
+     * @param cell The index of the cell, row by row.
+     * @return True if the brick is alive, false otherwise.
+     */
+    public boolean isBrickAlive(int cell) {
+        return (brickWords[cell / Long.SIZE] & (1L << cell)) != 0;
+    }
+
+    /**
+     * Gets the number of remaining lives.
+     * @return The number of lives.
+     */
+    public int getLives() {
+        return lives;
+    }
+
+    /**
+     * Checks whether a following camera is active.
+     * @return True for a following camera, false for the default one.
+     */
+    public boolean isCameraActive() {
+        return cameraActive;
+    }
+
+    /**
+     * Gets the center of the view of the following camera.
+     * @return The center, in world coordinates.
+     */
+    public Vector2 getCameraCenter() {
+        return new Vector2(toFloat(camera[0]), toFloat(camera[1]));
+    }
+
+    /**
+     * Gets the size of the part of the world the following camera shows.
+     * @return The dimensions of the view.
+     */
+    public Vector2 getCameraDimensions() {
+        return new Vector2(toFloat(camera[2]), toFloat(camera[3]));
+    }
+
+    /**
+     * Gets the number of recorded moving objects.
+     * @return The number of objects.
+     */
+    public int getObjectCount() {
+        return objectCount;
+    }
+
+    /**
+     * Gets the kind of a recorded object.
+     * @param index The index of the object.
+     * @return The CollisionCategories category of the object.
+     */
+    public int getObjectKind(int index) {
+        return kinds[index];
+    }
+
+    /**
+     * Gets the position of a recorded object.
+     * @param index The index of the object.
+     * @return The top left corner of the object.
+     */
+    public Vector2 getObjectTopLeftCorner(int index) {
+        return new Vector2(toFloat(objects[index * OBJECT_FIELDS]),
+                toFloat(objects[index * OBJECT_FIELDS + 1]));
+    }
+
+    /**
+     * Gets the size of a recorded object.
+     * @param index The index of the object.
+     * @return The dimensions of the object.
+     */
+    public Vector2 getObjectDimensions(int index) {
+        return new Vector2(toFloat(objects[index * OBJECT_FIELDS + 2]),
+                toFloat(objects[index * OBJECT_FIELDS + 3]));
+    }
+
+    /**
+     * Makes this snapshot a copy of another one.
+     * @param other The snapshot to copy.
+     */
+    public void copyFrom(GameSnapshot other) {
+        clear(other.frame);
+        setBrickWordCount(other.brickWordCount);
+        System.arraycopy(other.brickWords, 0, brickWords, 0, brickWordCount);
+        lives = other.lives;
+        cameraActive = other.cameraActive;
+        System.arraycopy(other.camera, 0, camera, 0, OBJECT_FIELDS);
+        for (int i = 0; i < other.objectCount; i++) {
+            int field = i * OBJECT_FIELDS;
+            setObject(i, other.kinds[i], other.objects[field], other.objects[field + 1],
+                    other.objects[field + 2], other.objects[field + 3]);
+        }
+    }
+
+    /**
+     * Computes the CRC32 checksum of the whole state of the snapshot.
+     * @return The checksum.
+     */
+    public int checksum() {
+        int size = Integer.BYTES * 3 + Long.BYTES * brickWordCount + 1 +
+                Integer.BYTES * OBJECT_FIELDS * (objectCount + 1) + objectCount;
+        if (checksumBuffer.capacity() < size) {
+            checksumBuffer = ByteBuffer.allocate(size);
+        }
+        ByteBuffer buffer = checksumBuffer;
+        buffer.clear();
+        buffer.putInt(frame).putInt(lives).putInt(brickWordCount);
+        for (int i = 0; i < brickWordCount; i++) {
+            buffer.putLong(brickWords[i]);
+        }
+        buffer.put((byte) (cameraActive ? 1 : 0));
+        for (int value : camera) {
+            buffer.putInt(value);
+        }
+        for (int i = 0; i < objectCount; i++) {
+            buffer.put(kinds[i]);
+            for (int field = 0; field < OBJECT_FIELDS; field++) {
+                buffer.putInt(objects[i * OBJECT_FIELDS + field]);
+            }
+        }
+        crc.reset();
+        crc.update(buffer.array(), 0, buffer.position());
+        return (int) crc.getValue();
+    }
+
+    /**
+     * Sets the number of words of the alive bits of the brick cells. Words added are
+     * cleared.
+     * @param count The number of words.
+     */
+    void setBrickWordCount(int count) {
+        if (brickWords.length < count) {
+            brickWords = Arrays.copyOf(brickWords, count);
+        }
+        if (count > brickWordCount) {
+            Arrays.fill(brickWords, brickWordCount, count, 0);
+        }
+        brickWordCount = count;
+    }
+
+    /**
+     * Sets 64 alive bits of the brick cells.
+     * @param index The index of the word.
+     * @param word  The word.
+     */
+    void setBrickWord(int index, long word) {
+        brickWords[index] = word;
+    }
+
+    /**
+     * Sets the view of the camera, in fixed point.
+     * @param active True for a following camera, false for the default one.
+     * @param field  The field of the view: center x, center y, width or height.
+     * @param value  The value of the field.
+     */
+    void setCameraField(boolean active, int field, int value) {
+        cameraActive = active;
+        camera[field] = value;
+    }
+
+    /**
+     * Gets a field of the view of the camera, in fixed point.
+     * @param field The field of the view: center x, center y, width or height.
+     * @return The value of the field.
+     */
+    int getCameraField(int field) {
+        return camera[field];
+    }
+
+    /**
+     * Sets a recorded object, in fixed point, extending the objects by one if the index is
+     * the number of objects.
+     * @param index  The index of the object.
+     * @param kind   The CollisionCategories category of the object.
+     * @param left   The left of the object.
+     * @param top    The top of the object.
+     * @param width  The width of the object.
+     * @param height The height of the object.
+     */
+    void setObject(int index, int kind, int left, int top, int width, int height) {
+        if (index == kinds.length) {
+            kinds = Arrays.copyOf(kinds, index * 2);
+            objects = Arrays.copyOf(objects, index * 2 * OBJECT_FIELDS);
+        }
+        kinds[index] = (byte) kind;
+        int field = index * OBJECT_FIELDS;
+        objects[field] = left;
+        objects[field + 1] = top;
+        objects[field + 2] = width;
+        objects[field + 3] = height;
+        objectCount = Math.max(objectCount, index + 1);
+    }
+
+    /**
+     * Gets a field of a recorded object, in fixed point.
+     * @param index The index of the object.
+     * @param field The field: left, top, width or height.
+     * @return The value of the field.
+     */
+    int getObjectField(int index, int field) {
+        return objects[index * OBJECT_FIELDS + field];
+    }
+
+    private static int toFixed(float value) {
+        return Math.round(value * POSITION_SCALE);
+    }
+
+    private static float toFloat(int value) {
+        return value / POSITION_SCALE;
+    }
+}
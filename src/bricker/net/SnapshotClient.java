@@ -0,0 +1,225 @@
+/**
+ * Package bricker.net contains the snapshot server that streams the state of a game to
+ * displays in other processes, and its clients.
+ */
+package bricker.net;
+
+import bricker.gameobjects.BrickField;
+import bricker.util.FrameProfiler;
+import danogl.gui.rendering.Renderable;
+import danogl.util.Vector2;
+import java.io.BufferedInputStream;
+import java.io.BufferedOutputStream;
+import java.io.DataInputStream;
+import java.io.DataOutputStream;
+import java.io.EOFException;
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.net.InetAddress;
+import java.net.Socket;
+
+/**
+ * The SnapshotClient class receives the snapshots of a GameServer on localhost. Every
+ * message is decoded against the snapshot of its baseline frame, its checksum is verified,
+ * and its frame is acknowledged so the server encodes the following snapshots against it;
+ * a message that fails its checksum is dropped and answered with NO_BASELINE instead.
+ * Snapshots can be received on the calling thread, or on a background thread that keeps
+ * the newest one for a display to copy.
+ * @author Shay Abbou & Shaked Hartal
+ */
+public class SnapshotClient implements AutoCloseable {
+    private final Socket socket;
+    private final DataInputStream input;
+    private final DataOutputStream output;
+    private final Vector2 windowDimensions;
+    private final int rows, cols;
+    private final Vector2 topLeftCorner;
+    private final Vector2 brickDimensions;
+    private final float gap;
+    private final SnapshotHistory history = new SnapshotHistory();
+    private final SnapshotCodec codec = new SnapshotCodec();
+    private final GameSnapshot received = new GameSnapshot();
+    private final GameSnapshot newest = new GameSnapshot();
+    private byte[] message = new byte[0];
+    private long messagesReceived, bytesReceived, checksumFailures;
+    private boolean newestTaken = true;
+
+    /**
+     * Connects to a GameServer on localhost and reads the layout of its game.
+     * @param port The port of the server.
+     * @throws UncheckedIOException If the server cannot be reached.
+     * @throws IllegalStateException If the server does not speak the protocol.
+     */
+    public SnapshotClient(int port) {
+        try {
+            socket = new Socket(InetAddress.getLoopbackAddress(), port);
+            socket.setTcpNoDelay(true);
+            input = new DataInputStream(new BufferedInputStream(socket.getInputStream()));
+            output = new DataOutputStream(new BufferedOutputStream(socket.getOutputStream()));
+            if (input.readInt() != GameServer.MAGIC ||
+                    input.readShort() != GameServer.VERSION) {
+                socket.close();
+                throw new IllegalStateException("Not a game server on port " + port);
+            }
+            windowDimensions = new Vector2(input.readFloat(), input.readFloat());
+            rows = input.readInt();
+            cols = input.readInt();
+            topLeftCorner = new Vector2(input.readFloat(), input.readFloat());
+            brickDimensions = new Vector2(input.readFloat(), input.readFloat());
+            gap = input.readFloat();
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+        newest.clear(SnapshotCodec.NO_BASELINE);
+    }
+
+    /**
+     * Gets the dimensions of the window of the game.
+     * @return The window dimensions.
+     */
+    public Vector2 getWindowDimensions() {
+        return windowDimensions;
+    }
+
+    /**
+     * Creates an empty brick field with the layout of the brick field of the game.
+     * @param brickImage The renderable representing a single brick. Can be null if the
+     *                   bricks should not be rendered.
+     * @param profiler   The profiler that times the collision strategies of hit bricks.
+     *                   Can be null if they should not be timed.
+     * @return The brick field.
+     */
+    public BrickField createBrickField(Renderable brickImage, FrameProfiler profiler) {
+        return new BrickField(topLeftCorner, brickDimensions, gap, rows, cols, brickImage,
+                profiler);
+    }
+
+    /**
+     * Waits for the next message of the server that decodes to a snapshot matching its
+     * checksum, and acknowledges its frame. A message whose checksum does not match is
+     * neither kept nor acknowledged: the client acknowledges NO_BASELINE instead, so the
+     * server sends its next snapshot in full.
+     * @return The decoded snapshot, valid until the next call, or null if the server
+     *         closed the connection.
+     * @throws UncheckedIOException If the connection fails.
+     * @throws IllegalStateException If the baseline of the message is no longer kept.
+     */
+    public GameSnapshot receive() {
+        try {
+            while (true) {
+                int length;
+                try {
+                    length = input.readInt();
+                } catch (EOFException e) {
+                    return null;
+                }
+                if (message.length < length) {
+                    message = new byte[length];
+                }
+                input.readFully(message, 0, length);
+                messagesReceived++;
+                bytesReceived += length + Integer.BYTES;
+                int baselineFrame = SnapshotCodec.readBaselineFrame(message);
+                GameSnapshot baseline = history.get(baselineFrame);
+                if (baseline == null && baselineFrame != SnapshotCodec.NO_BASELINE) {
+                    throw new IllegalStateException("Baseline frame " + baselineFrame +
+                            " is no longer kept");
+                }
+                if (!codec.decode(message, length, baseline, received)) {
+                    checksumFailures++;
+                    output.writeInt(SnapshotCodec.NO_BASELINE);
+                    output.flush();
+                    continue;
+                }
+                history.put(received);
+                output.writeInt(received.getFrame());
+                output.flush();
+                return received;
+            }
+        } catch (IOException e) {
+            if (socket.isClosed()) {
+                return null;
+            }
+            throw new UncheckedIOException(e);
+        }
+    }
+
+    /**
+     * Starts receiving snapshots on a background thread, until the server closes the
+     * connection. The newest snapshot is taken with takeNewest.
+     */
+    public void startReceiving() {
+        Thread receiver = new Thread(() -> {
+            GameSnapshot snapshot;
+            while ((snapshot = receive()) != null) {
+                synchronized (newest) {
+                    newest.copyFrom(snapshot);
+                    newestTaken = false;
+                }
+            }
+        }, "snapshot-receiver");
+        receiver.setDaemon(true);
+        receiver.start();
+    }
+
+    /**
+     * Copies the newest snapshot received on the background thread, if it was not taken yet.
+     * @param snapshot The snapshot to copy into.
+     * @return True if a new snapshot was copied, false otherwise.
+     */
+    public boolean takeNewest(GameSnapshot snapshot) {
+        synchronized (newest) {
+            if (newestTaken) {
+                return false;
+            }
+            snapshot.copyFrom(newest);
+            newestTaken = true;
+            return true;
+        }
+    }
+
+    /**
+     * Disconnects from the server.
+     */
+    @Override
+    public void close() {
+        try {
+            socket.close();
+        } catch (IOException ignored) {
+        }
+    }
+
+    /**
+     * Summarizes the messages received and the checksums that did not match.
+     * @return A single-line report.
+     */
+    public String report() {
+        return String.format("%d snapshots, %.1f bytes each, %d checksum failures",
+                messagesReceived,
+                messagesReceived == 0 ? 0 : (double) bytesReceived / messagesReceived,
+                checksumFailures);
+    }
+
+    /**
+     * Receives the snapshots of a game server until it closes the connection, without
+     * drawing them, and prints what was received.
+     * @param args Command-line arguments specifying the port. If not provided, the
+     *             default port of GameServer is used.
+     */
+    public static void main(String[] args) {
+        int port = args.length >= 1 ? Integer.parseInt(args[0]) : GameServer.DEFAULT_PORT;
+        try (SnapshotClient client = new SnapshotClient(port)) {
+            GameSnapshot snapshot = null;
+            GameSnapshot last;
+            do {
+                last = snapshot;
+                snapshot = client.receive();
+            } while (snapshot != null);
+            System.out.println(client.report());
+            if (last != null) {
+                System.out.printf("last frame %d: %d lives, %d objects%n", last.getFrame(),
+                        last.getLives(), last.getObjectCount());
+            }
+        }
+    }
+}
@@ -0,0 +1,237 @@
+/**
+ * Package bricker.net contains the snapshot server that streams the state of a game to
+ * displays in other processes, and its clients.
+ */
+package bricker.net;
+
+import java.util.Arrays;
+
+/**
+ * The SnapshotCodec class encodes a snapshot as its difference from a baseline, an earlier
+ * snapshot the client acknowledged, and decodes it back against the same baseline.
+ * A message holds the frame number, the frame of the baseline or NO_BASELINE, and the
+ * checksum of the whole snapshot, followed by the brick words that changed, each as the
+ * number of unchanged words before it and the XOR with the baseline word, the lives, the
+ * camera, and every object as the difference of its fixed point position and size from the
+ * object at the same index of the baseline. Numbers are zigzag varints, so a ball that moved
+ * a few pixels takes a few bytes and an unchanged brick wall takes one.
+ * Without a baseline the snapshot is encoded against an empty one: no bricks, no objects,
+ * no camera.
+ * @author Shay Abbou & Shaked Hartal
+ */
+public class SnapshotCodec {
+    /** The baseline frame of a snapshot encoded without a baseline. */
+    public static final int NO_BASELINE = -1;
+    private static final int INITIAL_CAPACITY = 256;
+    private static final int MAX_VARINT_BYTES = 5;
+    private static final GameSnapshot EMPTY = new GameSnapshot();
+    private byte[] buffer = new byte[INITIAL_CAPACITY];
+    private int position;
+
+    /**
+     * Encodes a snapshot into the buffer of the codec, replacing the previous message.
+     * @param snapshot The snapshot.
+     * @param baseline The snapshot the client already has, or null.
+     * @return The length of the message, in bytes.
+     */
+    public int encode(GameSnapshot snapshot, GameSnapshot baseline) {
+        position = 0;
+        writeInt(snapshot.getFrame());
+        writeInt(baseline != null ? baseline.getFrame() : NO_BASELINE);
+        writeInt(snapshot.checksum());
+        if (baseline == null) {
+            baseline = EMPTY;
+        }
+        int wordCount = snapshot.getBrickWordCount();
+        writeVarint(wordCount);
+        int changed = 0;
+        for (int i = 0; i < wordCount; i++) {
+            if (snapshot.getBrickWord(i) != baseWord(baseline, i)) {
+                changed++;
+            }
+        }
+        writeVarint(changed);
+        int previous = -1;
+        for (int i = 0; i < wordCount; i++) {
+            long xor = snapshot.getBrickWord(i) ^ baseWord(baseline, i);
+            if (xor != 0) {
+                writeVarint(i - previous - 1);
+                writeLong(xor);
+                previous = i;
+            }
+        }
+        writeVarint(snapshot.getLives());
+        ensureCapacity(1);
+        buffer[position++] = (byte) (snapshot.isCameraActive() ? 1 : 0);
+        for (int field = 0; field < GameSnapshot.OBJECT_FIELDS; field++) {
+            writeSignedVarint(snapshot.getCameraField(field) - baseline.getCameraField(field));
+        }
+        int objectCount = snapshot.getObjectCount();
+        writeVarint(objectCount);
+        for (int i = 0; i < objectCount; i++) {
+            int kind = snapshot.getObjectKind(i);
+            boolean delta = i < baseline.getObjectCount() && baseline.getObjectKind(i) == kind;
+            ensureCapacity(1);
+            buffer[position++] = (byte) kind;
+            for (int field = 0; field < GameSnapshot.OBJECT_FIELDS; field++) {
+                writeSignedVarint(snapshot.getObjectField(i, field) -
+                        (delta ? baseline.getObjectField(i, field) : 0));
+            }
+        }
+        return position;
+    }
+
+    /**
+     * Gets the buffer holding the last encoded message.
+     * @return The buffer, valid up to the length returned by encode.
+     */
+    public byte[] getBuffer() {
+        return buffer;
+    }
+
+    /**
+     * Reads the frame of the baseline a message was encoded against.
+     * @param message The message.
+     * @return The baseline frame, or NO_BASELINE.
+     */
+    public static int readBaselineFrame(byte[] message) {
+        return readInt(message, Integer.BYTES);
+    }
+
+    /**
+     * Decodes a message into a snapshot.
+     * @param message  The message.
+     * @param length   The length of the message, in bytes.
+     * @param baseline The snapshot of the baseline frame of the message, or null if the
+     *                 message has no baseline.
+     * @param snapshot The snapshot to decode into, which must not be the baseline.
+     * @return True if the checksum of the decoded snapshot matches the one of the message,
+     *         false otherwise.
+     * @throws IllegalArgumentException If the message is truncated or is not a snapshot.
+     */
+    public boolean decode(byte[] message, int length, GameSnapshot baseline,
+                          GameSnapshot snapshot) {
+        try {
+            position = 0;
+            int frame = readInt(message, position);
+            int checksum = readInt(message, 2 * Integer.BYTES);
+            position = 3 * Integer.BYTES;
+            if (baseline == null) {
+                baseline = EMPTY;
+            }
+            snapshot.clear(frame);
+            int wordCount = readVarint(message);
+            snapshot.setBrickWordCount(wordCount);
+            for (int i = 0; i < wordCount; i++) {
+                snapshot.setBrickWord(i, baseWord(baseline, i));
+            }
+            int changed = readVarint(message);
+            int index = -1;
+            for (int i = 0; i < changed; i++) {
+                index += readVarint(message) + 1;
+                long xor = readLong(message, position);
+                position += Long.BYTES;
+                snapshot.setBrickWord(index, snapshot.getBrickWord(index) ^ xor);
+            }
+            snapshot.setLives(readVarint(message));
+            boolean cameraActive = message[position++] != 0;
+            for (int field = 0; field < GameSnapshot.OBJECT_FIELDS; field++) {
+                snapshot.setCameraField(cameraActive, field,
+                        baseline.getCameraField(field) + readSignedVarint(message));
+            }
+            int objectCount = readVarint(message);
+            for (int i = 0; i < objectCount; i++) {
+                int kind = message[position++];
+                boolean delta = i < baseline.getObjectCount() &&
+                        baseline.getObjectKind(i) == kind;
+                int left = readSignedVarint(message) +
+                        (delta ? baseline.getObjectField(i, 0) : 0);
+                int top = readSignedVarint(message) +
+                        (delta ? baseline.getObjectField(i, 1) : 0);
+                int width = readSignedVarint(message) +
+                        (delta ? baseline.getObjectField(i, 2) : 0);
+                int height = readSignedVarint(message) +
+                        (delta ? baseline.getObjectField(i, 3) : 0);
+                snapshot.setObject(i, kind, left, top, width, height);
+            }
+            if (position != length) {
+                throw new IllegalArgumentException("Not a snapshot message");
+            }
+            return snapshot.checksum() == checksum;
+        } catch (ArrayIndexOutOfBoundsException e) {
+            throw new IllegalArgumentException("Truncated snapshot message", e);
+        }
+    }
+
+    private static long baseWord(GameSnapshot baseline, int index) {
+        return index < baseline.getBrickWordCount() ? baseline.getBrickWord(index) : 0;
+    }
+
+    private void ensureCapacity(int bytes) {
+        if (position + bytes > buffer.length) {
+            buffer = Arrays.copyOf(buffer, Math.max(buffer.length * 2, position + bytes));
+        }
+    }
+
+    private void writeInt(int value) {
+        ensureCapacity(Integer.BYTES);
+        for (int shift = Integer.SIZE - Byte.SIZE; shift >= 0; shift -= Byte.SIZE) {
+            buffer[position++] = (byte) (value >>> shift);
+        }
+    }
+
+    private void writeLong(long value) {
+        ensureCapacity(Long.BYTES);
+        for (int shift = Long.SIZE - Byte.SIZE; shift >= 0; shift -= Byte.SIZE) {
+            buffer[position++] = (byte) (value >>> shift);
+        }
+    }
+
+    private void writeVarint(int value) {
+        ensureCapacity(MAX_VARINT_BYTES);
+        while ((value & ~0x7F) != 0) {
+            buffer[position++] = (byte) ((value & 0x7F) | 0x80);
+            value >>>= 7;
+        }
+        buffer[position++] = (byte) value;
+    }
+
+    private void writeSignedVarint(int value) {
+        writeVarint((value << 1) ^ (value >> (Integer.SIZE - 1)));
+    }
+
+    private int readVarint(byte[] message) {
+        int value = 0;
+        for (int shift = 0; ; shift += 7) {
+            byte b = message[position++];
+            value |= (b & 0x7F) << shift;
+            if (b >= 0) {
+                return value;
+            }
+            if (shift >= Integer.SIZE - 7) {
+                throw new IllegalArgumentException("Malformed varint");
+            }
+        }
+    }
+
+    private int readSignedVarint(byte[] message) {
+        int value = readVarint(message);
+        return (value >>> 1) ^ -(value & 1);
+    }
+
+    private static int readInt(byte[] message, int offset) {
+        int value = 0;
+        for (int i = 0; i < Integer.BYTES; i++) {
+            value = (value << Byte.SIZE) | (message[offset + i] & 0xFF);
+        }
+        return value;
+    }
+
+    private static long readLong(byte[] message, int offset) {
+        long value = 0;
+        for (int i = 0; i < Long.BYTES; i++) {
+            value = (value << Byte.SIZE) | (message[offset + i] & 0xFF);
+        }
+        return value;
+    }
+}
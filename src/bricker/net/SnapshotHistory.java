@@ -0,0 +1,58 @@
+/**
+ * Package bricker.net contains the snapshot server that streams the state of a game to
+ * displays in other processes, and its clients.
+ */
+package bricker.net;
+
+/**
+ * The SnapshotHistory class keeps copies of the snapshots of the last few frames, so a
+ * snapshot can be encoded, or decoded, as the difference from an earlier one. The server
+ * keeps the snapshots it sent, and a client the ones it decoded; a snapshot a client
+ * acknowledged is then on both sides until it is pushed out by newer ones.
+ * @author Shay Abbou & Shaked Hartal
+ */
+public class SnapshotHistory {
+    /** The number of frames kept by default. */
+    public static final int DEFAULT_CAPACITY = 64;
+    private final GameSnapshot[] snapshots;
+
+    /**
+     * Constructs a SnapshotHistory that keeps DEFAULT_CAPACITY frames.
+     */
+    public SnapshotHistory() {
+        this(DEFAULT_CAPACITY);
+    }
+
+    /**
+     * Constructs a SnapshotHistory that keeps the given number of frames.
+     * @param capacity The number of frames kept.
+     */
+    public SnapshotHistory(int capacity) {
+        snapshots = new GameSnapshot[capacity];
+        for (int i = 0; i < capacity; i++) {
+            snapshots[i] = new GameSnapshot();
+            snapshots[i].clear(-1);
+        }
+    }
+
+    /**
+     * Keeps a copy of a snapshot, in place of the one of the oldest frame.
+     * @param snapshot The snapshot, whose frame is not negative.
+     */
+    public void put(GameSnapshot snapshot) {
+        snapshots[snapshot.getFrame() % snapshots.length].copyFrom(snapshot);
+    }
+
+    /**
+     * Gets the snapshot of a frame, if it is still kept.
+     * @param frame The frame number.
+     * @return The kept snapshot, which must not be changed, or null.
+     */
+    public GameSnapshot get(int frame) {
+        if (frame < 0) {
+            return null;
+        }
+        GameSnapshot snapshot = snapshots[frame % snapshots.length];
+        return snapshot.getFrame() == frame ? snapshot : null;
+    }
+}
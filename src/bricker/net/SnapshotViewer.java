@@ -0,0 +1,188 @@
+/**
+ * Package bricker.net contains the snapshot server that streams the state of a game to
+ * displays in other processes, and its clients.
+ */
+package bricker.net;
+
+import bricker.assets.AssetRegistry;
+import bricker.brick_strategies.CollisionStrategy;
+import bricker.gameobjects.BrickField;
+import bricker.gameobjects.CollisionCategories;
+import danogl.GameManager;
+import danogl.GameObject;
+import danogl.collisions.Layer;
+import danogl.components.CoordinateSpace;
+import danogl.gui.ImageReader;
+import danogl.gui.SoundReader;
+import danogl.gui.UserInputListener;
+import danogl.gui.WindowController;
+import danogl.gui.rendering.Camera;
+import danogl.gui.rendering.Renderable;
+import danogl.gui.rendering.TextRenderable;
+import danogl.util.Vector2;
+import java.awt.Color;
+import java.util.ArrayList;
+
+/**
+ * The SnapshotViewer class is a display of a game run by a GameServer. It runs no game
+ * logic: every frame it takes the newest snapshot received by a SnapshotClient and moves
+ * its bricks, objects, lives and camera to match it. Only the brick cells that changed
+ * since the shown snapshot are added or removed.
+ * @author Shay Abbou & Shaked Hartal
+ */
+public class SnapshotViewer extends GameManager {
+    private static final Vector2 LIVES_DIMENSIONS = new Vector2(60, 20);
+    private static final float LIVES_MARGIN = 10;
+    private final SnapshotClient client;
+    private final GameSnapshot shown = new GameSnapshot();
+    private final GameSnapshot next = new GameSnapshot();
+    private final ArrayList<GameObject> objects = new ArrayList<>();
+    private AssetRegistry assets;
+    private BrickField brickField;
+    private CollisionStrategy removeBrick;
+    private TextRenderable livesText;
+    private GameObject cameraAnchor;
+    private Vector2 windowDimensions;
+
+    /**
+     * Constructs a SnapshotViewer of the game of a connected client.
+     * @param client The client, connected and not yet receiving.
+     */
+    public SnapshotViewer(SnapshotClient client) {
+        super("Bricker Display", client.getWindowDimensions());
+        this.client = client;
+    }
+
+    /**
+     * Creates an empty brick field with the layout of the game, and starts receiving
+     * snapshots.
+     * @param imageReader      The image reader for loading game images.
+     * @param soundReader      The sound reader for loading game sounds.
+     * @param inputListener    The input listener, unused.
+     * @param windowController The window controller for managing the game window.
+     */
+    @Override
+    public void initializeGame(ImageReader imageReader, SoundReader soundReader,
+                               UserInputListener inputListener,
+                               WindowController windowController) {
+        super.initializeGame(imageReader, soundReader, inputListener, windowController);
+        windowDimensions = windowController.getWindowDimensions();
+        if (assets == null) {
+            assets = new AssetRegistry(imageReader, soundReader);
+            client.startReceiving();
+        }
+        GameObject background = new GameObject(Vector2.ZERO, windowDimensions,
+                assets.image(AssetRegistry.BACKGROUND_IMAGE));
+        background.setCoordinateSpace(CoordinateSpace.CAMERA_COORDINATES);
+        gameObjects().addGameObject(background, Layer.BACKGROUND);
+        brickField = client.createBrickField(assets.image(AssetRegistry.BRICK_IMAGE), null);
+        removeBrick = (brick, other) -> brickField.remove(brick);
+        gameObjects().addGameObject(brickField, BrickField.LAYER);
+        livesText = new TextRenderable("");
+        livesText.setColor(Color.white);
+        GameObject lives = new GameObject(new Vector2(LIVES_MARGIN,
+                windowDimensions.y() - LIVES_DIMENSIONS.y() - LIVES_MARGIN),
+                LIVES_DIMENSIONS, livesText);
+        lives.setCoordinateSpace(CoordinateSpace.CAMERA_COORDINATES);
+        gameObjects().addGameObject(lives, Layer.UI);
+        cameraAnchor = new GameObject(Vector2.ZERO, Vector2.ONES, null);
+        objects.clear();
+        shown.clear(SnapshotCodec.NO_BASELINE);
+        shown.setBrickWordCount(0);
+    }
+
+    /**
+     * Shows the newest snapshot received, if there is a new one.
+     * @param deltaTime The time elapsed, in seconds, since the last frame.
+     */
+    @Override
+    public void update(float deltaTime) {
+        super.update(deltaTime);
+        if (!client.takeNewest(next)) {
+            return;
+        }
+        updateBricks();
+        updateObjects();
+        updateCamera();
+        livesText.setString("Lives: " + next.getLives());
+        shown.copyFrom(next);
+    }
+
+    private void updateBricks() {
+        int cells = brickField.getCellCount();
+        for (int word = 0; word < next.getBrickWordCount(); word++) {
+            long shownWord = word < shown.getBrickWordCount() ? shown.getBrickWord(word) : 0;
+            long changed = next.getBrickWord(word) ^ shownWord;
+            while (changed != 0) {
+                int cell = word * Long.SIZE + Long.numberOfTrailingZeros(changed);
+                changed &= changed - 1;
+                if (cell >= cells) {
+                    break;
+                }
+                if (next.isBrickAlive(cell)) {
+                    brickField.add(cell / brickField.getCols(), cell % brickField.getCols(),
+                            removeBrick);
+                } else {
+                    brickField.hit(cell, null);
+                }
+            }
+        }
+    }
+
+    private void updateObjects() {
+        int count = next.getObjectCount();
+        while (objects.size() < count) {
+            GameObject gameObject = new GameObject(Vector2.ZERO, Vector2.ONES, null);
+            objects.add(gameObject);
+            gameObjects().addGameObject(gameObject);
+        }
+        while (objects.size() > count) {
+            gameObjects().removeGameObject(objects.remove(objects.size() - 1));
+        }
+        for (int i = 0; i < count; i++) {
+            GameObject gameObject = objects.get(i);
+            gameObject.setDimensions(next.getObjectDimensions(i));
+            gameObject.setTopLeftCorner(next.getObjectTopLeftCorner(i));
+            if (i >= shown.getObjectCount() || shown.getObjectKind(i) != next.getObjectKind(i)) {
+                gameObject.renderer().setRenderable(imageOf(next.getObjectKind(i)));
+            }
+        }
+    }
+
+    private void updateCamera() {
+        if (!next.isCameraActive()) {
+            if (camera() != null) {
+                setCamera(null);
+            }
+            return;
+        }
+        cameraAnchor.setCenter(next.getCameraCenter());
+        if (camera() == null) {
+            setCamera(new Camera(cameraAnchor, Vector2.ZERO, next.getCameraDimensions(),
+                    windowDimensions));
+        }
+    }
+
+    private Renderable imageOf(int kind) {
+        switch (kind) {
+            case CollisionCategories.BALL:
+                return assets.image(AssetRegistry.BALL_IMAGE);
+            case CollisionCategories.PUCK:
+                return assets.image(AssetRegistry.PUCK_IMAGE);
+            case CollisionCategories.HEART:
+                return assets.image(AssetRegistry.HEART_IMAGE);
+            default:
+                return assets.image(AssetRegistry.PADDLE_IMAGE);
+        }
+    }
+
+    /**
+     * Connects to a game server on localhost and shows its game in a window.
+     * @param args Command-line arguments specifying the port. If not provided, the
+     *             default port of GameServer is used.
+     */
+    public static void main(String[] args) {
+        int port = args.length >= 1 ? Integer.parseInt(args[0]) : GameServer.DEFAULT_PORT;
+        new SnapshotViewer(new SnapshotClient(port)).run();
+    }
+}
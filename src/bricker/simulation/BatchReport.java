@@ -0,0 +1,124 @@
+/**
+ * Package bricker.simulation contains classes for running the game logic
+ * without a window, image or sound.
+ */
+package bricker.simulation;
+
+import java.util.Arrays;
+import java.util.List;
+import java.util.Map;
+import java.util.TreeMap;
+
+/**
+ * The BatchReport class aggregates the results of a batch of headless games: the
+ * distribution of game lengths, the win rate, the lives lost, the peak number of live
+ * pucks, and the bricks broken per collision strategy over all games, along with the
+ * throughput of the batch.
+ * @author Shay Abbou & Shaked Hartal
+ */
+public class BatchReport {
+    private static final double NANOS_IN_SECOND = 1e9;
+    private final List<GameResult> results;
+    private final int threads;
+    private final long wallNanos;
+    private final double[] gameSeconds;
+    private final Map<String, Long> bricksBroken = new TreeMap<>();
+    private long frames;
+    private int gamesWon, gamesUnfinished;
+    private long livesLost;
+    private long peakLivePucksTotal;
+    private int peakLivePucks;
+
+    /**
+     * Constructs a BatchReport with the specified parameters.
+     * @param results   The results of the games, in seed order.
+     * @param threads   The number of threads the games ran on.
+     * @param wallNanos The wall clock time of the batch, in nanoseconds.
+     */
+    public BatchReport(List<GameResult> results, int threads, long wallNanos) {
+        this.results = results;
+        this.threads = threads;
+        this.wallNanos = wallNanos;
+        this.gameSeconds = new double[results.size()];
+        for (int i = 0; i < results.size(); i++) {
+            GameResult result = results.get(i);
+            gameSeconds[i] = result.getSimulatedSeconds();
+            frames += result.getFrames();
+            gamesWon += result.isWon() ? 1 : 0;
+            gamesUnfinished += result.isFinished() ? 0 : 1;
+            livesLost += result.getLivesLost();
+            peakLivePucksTotal += result.getPeakLivePucks();
+            peakLivePucks = Math.max(peakLivePucks, result.getPeakLivePucks());
+            for (Map.Entry<String, Integer> entry : result.getBricksBroken().entrySet()) {
+                bricksBroken.merge(entry.getKey(), (long) entry.getValue(), Long::sum);
+            }
+        }
+        Arrays.sort(gameSeconds);
+    }
+
+    /**
+     * Gets the results of the games, in seed order.
+     * @return The results.
+     */
+    public List<GameResult> getResults() {
+        return results;
+    }
+
+    /**
+     * Gets the wall clock time of the batch.
+     * @return The wall clock time in seconds.
+     */
+    public double getWallSeconds() {
+        return wallNanos / NANOS_IN_SECOND;
+    }
+
+    /**
+     * Gets the batch throughput.
+     * @return The number of games played per wall clock second.
+     */
+    public double getGamesPerSecond() {
+        return results.size() / getWallSeconds();
+    }
+
+    /**
+     * Gets the game length that the given percentage of the games did not exceed.
+     * @param percentile The percentage, between 0 and 100.
+     * @return The game length, in seconds of game time, or 0 for an empty batch.
+     */
+    public double getGameSecondsAtPercentile(double percentile) {
+        if (gameSeconds.length == 0) {
+            return 0;
+        }
+        int rank = (int) Math.ceil(percentile / 100 * gameSeconds.length);
+        return gameSeconds[Math.max(0, rank - 1)];
+    }
+
+    /**
+     * Gets the number of bricks broken per strategy over all games.
+     * @return The number of broken bricks per strategy description.
+     */
+    public Map<String, Long> getBricksBroken() {
+        return bricksBroken;
+    }
+
+    @Override
+    public String toString() {
+        int games = results.size();
+        StringBuilder report = new StringBuilder(String.format(
+                "%d games on %d threads in %.3f s: %.1f games/s, %.0f frames/s%n",
+                games, threads, getWallSeconds(), getGamesPerSecond(),
+                frames / getWallSeconds()));
+        report.append(String.format("game length   p50 %.1f s  p90 %.1f s  max %.1f s%n",
+                getGameSecondsAtPercentile(50), getGameSecondsAtPercentile(90),
+                getGameSecondsAtPercentile(100)));
+        report.append(String.format("won %d  unfinished %d  lives lost %.2f per game%n",
+                gamesWon, gamesUnfinished, (double) livesLost / Math.max(1, games)));
+        report.append(String.format("peak live pucks  mean %.1f  max %d%n",
+                (double) peakLivePucksTotal / Math.max(1, games), peakLivePucks));
+        report.append("bricks broken per strategy").append(System.lineSeparator());
+        for (Map.Entry<String, Long> entry : bricksBroken.entrySet()) {
+            report.append(String.format("  %-24s %d%n", entry.getKey(), entry.getValue()));
+        }
+        return report.toString();
+    }
+}
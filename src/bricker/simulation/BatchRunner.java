@@ -0,0 +1,121 @@
+/**
+ * Package bricker.simulation contains classes for running the game logic
+ * without a window, image or sound.
+ */
+package bricker.simulation;
+
+import danogl.util.Vector2;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+
+/**
+ * The BatchRunner class plays many independent headless games concurrently, one game per
+ * task on a fixed pool of threads, and aggregates their results.
+ * Every game has its own seed and its own game manager, with its own counter, lives, brick
+ * field and random source, so games share no mutable state and the batch scales with the
+ * number of cores. The results of a batch depend only on its seeds, not on the threads.
+ * @author Shay Abbou & Shaked Hartal
+ */
+public class BatchRunner {
+    private static final int WINDOW_WIDTH = 700;
+    private static final int WINDOW_HEIGHT = 500;
+    private static final int ROWS_OF_BRICKS = 7;
+    private static final int BRICKS_IN_ROW = 8;
+    private static final int DEFAULT_GAMES = 1000;
+    private static final long DEFAULT_FIRST_SEED = 1;
+    private static final long MAX_FRAMES_PER_GAME = 60 * 60 * 60;
+    private final Vector2 windowDimensions;
+    private final int rowsOfBricks, bricksInRow;
+    private final long maxFramesPerGame;
+    private final int threads;
+
+    /**
+     * Constructs a BatchRunner with the specified parameters.
+     * @param windowDimensions The dimensions of the simulated game window.
+     * @param rowsOfBricks     The number of rows of bricks in every game.
+     * @param bricksInRow      The number of bricks in each row.
+     * @param maxFramesPerGame The number of frames after which an unfinished game is stopped.
+     * @param threads          The number of games played at once.
+     */
+    public BatchRunner(Vector2 windowDimensions, int rowsOfBricks, int bricksInRow,
+                       long maxFramesPerGame, int threads) {
+        this.windowDimensions = windowDimensions;
+        this.rowsOfBricks = rowsOfBricks;
+        this.bricksInRow = bricksInRow;
+        this.maxFramesPerGame = maxFramesPerGame;
+        this.threads = threads;
+    }
+
+    /**
+     * Plays a single game to its end, or until it runs out of frames.
+     * @param seed The seed of the game.
+     * @return The result of the game.
+     */
+    public GameResult playGame(long seed) {
+        HeadlessSimulation simulation = new HeadlessSimulation(windowDimensions, rowsOfBricks,
+                bricksInRow, HeadlessSimulation.DEFAULT_DELTA_TIME, seed, false);
+        simulation.initialize();
+        long frames = 0;
+        boolean finished = false;
+        while (frames < maxFramesPerGame && !finished) {
+            frames++;
+            finished = !simulation.step();
+        }
+        return GameResult.of(seed, frames, frames * (double) HeadlessSimulation.DEFAULT_DELTA_TIME,
+                finished, simulation.getGameManager());
+    }
+
+    /**
+     * Plays a batch of games with consecutive seeds.
+     * @param games     The number of games.
+     * @param firstSeed The seed of the first game.
+     * @return The aggregated results of the games.
+     * @throws IllegalStateException If a game failed or the batch was interrupted.
+     */
+    public BatchReport run(int games, long firstSeed) {
+        ExecutorService executor = Executors.newFixedThreadPool(threads);
+        try {
+            long start = System.nanoTime();
+            List<Future<GameResult>> futures = new ArrayList<>(games);
+            for (int game = 0; game < games; game++) {
+                long seed = firstSeed + game;
+                futures.add(executor.submit(() -> playGame(seed)));
+            }
+            List<GameResult> results = new ArrayList<>(games);
+            for (Future<GameResult> future : futures) {
+                results.add(future.get());
+            }
+            return new BatchReport(results, threads, System.nanoTime() - start);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new IllegalStateException("Batch interrupted", e);
+        } catch (ExecutionException e) {
+            throw new IllegalStateException("Game failed", e.getCause());
+        } finally {
+            executor.shutdownNow();
+        }
+    }
+
+    /**
+     * Runs a batch of headless games and prints the aggregated results.
+     * @param args Command-line arguments specifying the number of games, the number of
+     *             threads, the number of bricks in a row, rows of bricks and the seed of
+     *             the first game. If not provided, default values are used, with a thread
+     *             per core.
+     */
+    public static void main(String[] args) {
+        int games = args.length >= 1 ? Integer.parseInt(args[0]) : DEFAULT_GAMES;
+        int threads = args.length >= 2 ? Integer.parseInt(args[1]) :
+                Runtime.getRuntime().availableProcessors();
+        int bricksInRow = args.length >= 3 ? Integer.parseInt(args[2]) : BRICKS_IN_ROW;
+        int rowsOfBricks = args.length >= 4 ? Integer.parseInt(args[3]) : ROWS_OF_BRICKS;
+        long firstSeed = args.length >= 5 ? Long.parseLong(args[4]) : DEFAULT_FIRST_SEED;
+        BatchRunner batchRunner = new BatchRunner(new Vector2(WINDOW_WIDTH, WINDOW_HEIGHT),
+                rowsOfBricks, bricksInRow, MAX_FRAMES_PER_GAME, threads);
+        System.out.print(batchRunner.run(games, firstSeed));
+    }
+}
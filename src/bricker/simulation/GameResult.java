@@ -0,0 +1,144 @@
+/**
+ * Package bricker.simulation contains classes for running the game logic
+ * without a window, image or sound.
+ */
+package bricker.simulation;
+
+import bricker.brick_strategies.StrategyCodes;
+import bricker.gameobjects.BrickField;
+import bricker.gameobjects.PuckPool;
+import bricker.main.BrickerGameManager;
+import java.util.Collections;
+import java.util.Map;
+import java.util.TreeMap;
+
+/**
+ * The GameResult class holds the statistics of a single finished headless game: its seed
+ * and length, whether it was won, the lives it lost, the peak number of live pucks and the
+ * number of bricks broken per collision strategy.
+ * @author Shay Abbou & Shaked Hartal
+ */
+public class GameResult {
+    private final long seed;
+    private final long frames;
+    private final double simulatedSeconds;
+    private final boolean finished;
+    private final boolean won;
+    private final int livesLost;
+    private final int peakLivePucks;
+    private final Map<String, Integer> bricksBroken;
+
+    /**
+     * Constructs a GameResult with the specified parameters.
+     * @param seed             The seed of the game.
+     * @param frames           The number of frames the game lasted.
+     * @param simulatedSeconds The game time the game lasted, in seconds.
+     * @param finished         Whether the game ended, rather than ran out of frames.
+     * @param won              Whether every brick was broken.
+     * @param livesLost        The number of lives the game lost.
+     * @param peakLivePucks    The largest number of pucks in play at once.
+     * @param bricksBroken     The number of broken bricks per strategy description.
+     */
+    public GameResult(long seed, long frames, double simulatedSeconds, boolean finished,
+                      boolean won, int livesLost, int peakLivePucks,
+                      Map<String, Integer> bricksBroken) {
+        this.seed = seed;
+        this.frames = frames;
+        this.simulatedSeconds = simulatedSeconds;
+        this.finished = finished;
+        this.won = won;
+        this.livesLost = livesLost;
+        this.peakLivePucks = peakLivePucks;
+        this.bricksBroken = Collections.unmodifiableMap(bricksBroken);
+    }
+
+    /**
+     * Collects the result of the game a game manager just played.
+     * @param seed             The seed of the game.
+     * @param frames           The number of frames the game lasted.
+     * @param simulatedSeconds The game time the game lasted, in seconds.
+     * @param finished         Whether the game ended, rather than ran out of frames.
+     * @param gameManager      The game manager, still holding the state of the game.
+     * @return The result of the game.
+     */
+    public static GameResult of(long seed, long frames, double simulatedSeconds,
+                                boolean finished, BrickerGameManager gameManager) {
+        BrickField brickField = gameManager.getBrickField();
+        Map<String, Integer> bricksBroken = new TreeMap<>();
+        for (int id = 0; id < brickField.getDistinctStrategyCount(); id++) {
+            int broken = brickField.getBrokenCount(id);
+            if (broken > 0) {
+                bricksBroken.merge(StrategyCodes.describe(
+                        brickField.getDistinctStrategy(id).getCode()), broken, Integer::sum);
+            }
+        }
+        PuckPool puckPool = gameManager.getPuckPool();
+        return new GameResult(seed, frames, simulatedSeconds, finished,
+                brickField.getAliveCount() == 0, gameManager.getLivesLost(),
+                puckPool == null ? 0 : puckPool.getPeakLiveCount(), bricksBroken);
+    }
+
+    /**
+     * Gets the seed of the game.
+     * @return The seed.
+     */
+    public long getSeed() {
+        return seed;
+    }
+
+    /**
+     * Gets the number of frames the game lasted.
+     * @return The number of frames.
+     */
+    public long getFrames() {
+        return frames;
+    }
+
+    /**
+     * Gets the game time the game lasted.
+     * @return The length of the game, in seconds.
+     */
+    public double getSimulatedSeconds() {
+        return simulatedSeconds;
+    }
+
+    /**
+     * Returns whether the game ended, rather than ran out of frames.
+     * @return True if the game ended, false otherwise.
+     */
+    public boolean isFinished() {
+        return finished;
+    }
+
+    /**
+     * Returns whether every brick was broken.
+     * @return True if the game was won, false otherwise.
+     */
+    public boolean isWon() {
+        return won;
+    }
+
+    /**
+     * Gets the number of lives the game lost.
+     * @return The number of lives lost.
+     */
+    public int getLivesLost() {
+        return livesLost;
+    }
+
+    /**
+     * Gets the largest number of pucks in play at once.
+     * @return The peak number of live pucks.
+     */
+    public int getPeakLivePucks() {
+        return peakLivePucks;
+    }
+
+    /**
+     * Gets the number of broken bricks per strategy, described as by StrategyCodes.
+     * @return The number of broken bricks per strategy description.
+     */
+    public Map<String, Integer> getBricksBroken() {
+        return bricksBroken;
+    }
+}
@@ -0,0 +1,37 @@
+/**
+ * Package bricker.simulation contains classes for running the game logic
+ * without a window, image or sound.
+ */
+package bricker.simulation;
+
+import danogl.gui.ImageReader;
+import danogl.gui.WindowController;
+import danogl.gui.rendering.ImageRenderable;
+
+/**
+ * The HeadlessImageReader class is an ImageReader that never touches the disk.
+ * Every image is read as null, which game objects treat as "not rendered".
+ * @author Shay Abbou & Shaked Hartal
+ */
+public class HeadlessImageReader extends ImageReader {
+
+    /**
+     * Constructs a HeadlessImageReader.
+     * @param windowController The (stub) window controller of the game.
+     */
+    public HeadlessImageReader(WindowController windowController) {
+        super(windowController);
+    }
+
+    /**
+     * Reads no image.
+     * @param imageFilePath                      The path of the image, ignored.
+     * @param useTopLeftPixelAsTransparencyColor Ignored.
+     * @return Always null.
+     */
+    @Override
+    public ImageRenderable readImage(String imageFilePath,
+                                     boolean useTopLeftPixelAsTransparencyColor) {
+        return null;
+    }
+}
@@ -0,0 +1,78 @@
+/**
+ * Package bricker.simulation contains classes for running the game logic
+ * without a window, image or sound.
+ */
+package bricker.simulation;
+
+import danogl.gui.UserInputListener;
+import java.lang.reflect.InvocationHandler;
+import java.lang.reflect.Method;
+import java.lang.reflect.Proxy;
+import java.util.BitSet;
+
+/**
+ * The HeadlessInputListener class stands in for the keyboard when the game runs without
+ * a display. Keys are pressed and released programmatically, and every other input query
+ * returns a neutral value.
+ * @author Shay Abbou & Shaked Hartal
+ */
+public class HeadlessInputListener implements InvocationHandler {
+    private final BitSet pressedKeys = new BitSet();
+    private final UserInputListener inputListener;
+
+    /**
+     * Constructs a HeadlessInputListener with no key pressed.
+     */
+    public HeadlessInputListener() {
+        this.inputListener = (UserInputListener) Proxy.newProxyInstance(
+                UserInputListener.class.getClassLoader(),
+                new Class<?>[]{UserInputListener.class}, this);
+    }
+
+    /**
+     * Gets the UserInputListener view of this stub, to be handed to the game manager.
+     * @return The stub input listener.
+     */
+    public UserInputListener asInputListener() {
+        return inputListener;
+    }
+
+    /**
+     * Sets whether a key is held down.
+     * @param keyCode The key code, as defined in KeyEvent.
+     * @param pressed True to hold the key down, false to release it.
+     */
+    public void setKeyPressed(int keyCode, boolean pressed) {
+        pressedKeys.set(keyCode, pressed);
+    }
+
+    /**
+     * Releases every key.
+     */
+    public void releaseAll() {
+        pressedKeys.clear();
+    }
+
+    /**
+     * Dispatches a call made on the stub input listener.
+     * @param proxy  The stub input listener.
+     * @param method The invoked method.
+     * @param args   The arguments of the call.
+     * @return The value returned to the game.
+     */
+    @Override
+    public Object invoke(Object proxy, Method method, Object[] args) {
+        switch (method.getName()) {
+            case "isKeyPressed":
+                return pressedKeys.get((Integer) args[0]);
+            case "hashCode":
+                return System.identityHashCode(proxy);
+            case "equals":
+                return proxy == args[0];
+            case "toString":
+                return "HeadlessInputListener" + pressedKeys;
+            default:
+                return StubDefaults.defaultValue(method.getReturnType());
+        }
+    }
+}
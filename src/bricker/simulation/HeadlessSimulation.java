@@ -0,0 +1,275 @@
+/**
+ * Package bricker.simulation contains classes for running the game logic
+ * without a window, image or sound.
+ */
+package bricker.simulation;
+
+import bricker.level.Level;
+import bricker.main.BrickerGameManager;
+import danogl.gui.ImageReader;
+import danogl.gui.SoundReader;
+import danogl.util.Vector2;
+import java.io.BufferedInputStream;
+import java.io.BufferedOutputStream;
+import java.io.DataInputStream;
+import java.io.DataOutputStream;
+import java.io.FileInputStream;
+import java.io.FileOutputStream;
+import java.io.IOException;
+import java.io.UncheckedIOException;
+
+/**
+ * The HeadlessSimulation class runs the Bricker game logic without a window, image or sound.
+ * It drives the same initializeGame and update methods of BrickerGameManager as the window
+ * loop does, but with stub readers, input and window, and with frames as long as the
+ * simulation step of the game, advanced as fast as the CPU allows. The game is seeded, so
+ * two runs with the same seed play out identically.
+ * @author Shay Abbou & Shaked Hartal
+ */
+public class HeadlessSimulation {
+    private static final int WINDOW_WIDTH = 700;
+    private static final int WINDOW_HEIGHT = 500;
+    private static final int ROWS_OF_BRICKS = 7;
+    private static final int BRICKS_IN_ROW = 8;
+    private static final int DEFAULT_FRAMES = 100_000;
+    private static final long DEFAULT_SEED = 42;
+    private static final int SAVE_HEADER_BYTES = 2 * Integer.BYTES + Short.BYTES +
+            Integer.BYTES;
+    /** The default fixed time step, in seconds. */
+    static final float DEFAULT_DELTA_TIME = 1f / 60;
+    private final BrickerGameManager gameManager;
+    private final HeadlessWindowController windowController;
+    private final HeadlessInputListener inputListener;
+    private final ImageReader imageReader;
+    private final SoundReader soundReader;
+    private final float deltaTime;
+
+    /**
+     * Constructs a HeadlessSimulation with the specified parameters.
+     * @param windowDimensions The dimensions of the simulated game window.
+     * @param rowsOfBricks     The number of rows of bricks in the game.
+     * @param bricksInRow      The number of bricks in each row.
+     * @param deltaTime        The fixed time step of every frame, in seconds.
+     * @param seed             The seed of the game.
+     */
+    public HeadlessSimulation(Vector2 windowDimensions, int rowsOfBricks, int bricksInRow,
+                              float deltaTime, long seed) {
+        this(windowDimensions, rowsOfBricks, bricksInRow, deltaTime, seed, true);
+    }
+
+    /**
+     * Constructs a HeadlessSimulation with the specified parameters.
+     * @param windowDimensions The dimensions of the simulated game window.
+     * @param rowsOfBricks     The number of rows of bricks in the game.
+     * @param bricksInRow      The number of bricks in each row.
+     * @param deltaTime        The fixed time step of every frame, in seconds.
+     * @param seed             The seed of the game.
+     * @param playAgain        Whether a new game starts when a game ends, or the window
+     *                         closes, keeping the state of the ended game.
+     */
+    public HeadlessSimulation(Vector2 windowDimensions, int rowsOfBricks, int bricksInRow,
+                              float deltaTime, long seed, boolean playAgain) {
+        this.deltaTime = deltaTime;
+        this.windowController = new HeadlessWindowController(windowDimensions, playAgain);
+        this.inputListener = new HeadlessInputListener();
+        this.imageReader = new HeadlessImageReader(windowController.asWindowController());
+        this.soundReader = new HeadlessSoundReader(windowController.asWindowController());
+        this.gameManager = new BrickerGameManager("Headless Bricker", windowDimensions,
+                rowsOfBricks, bricksInRow, seed);
+        this.gameManager.setFixedTimeStep(deltaTime);
+    }
+
+    /**
+     * Gets the game manager driven by this simulation.
+     * @return The game manager.
+     */
+    public BrickerGameManager getGameManager() {
+        return gameManager;
+    }
+
+    /**
+     * Gets the stub input listener, so keys can be held down during the run.
+     * @return The stub input listener.
+     */
+    public HeadlessInputListener getInputListener() {
+        return inputListener;
+    }
+
+    /**
+     * Gets the number of games started so far, including restarts.
+     * @return The number of games.
+     */
+    public int getGamesPlayed() {
+        return gameManager.getGamesStarted();
+    }
+
+    /**
+     * Starts a new game, as the window loop does before its first frame.
+     */
+    public void initialize() {
+        gameManager.initializeGame(imageReader, soundReader,
+                inputListener.asInputListener(), windowController.asWindowController());
+    }
+
+    /**
+     * Advances the game by a single fixed time step. A game that ends during the step is
+     * restarted in place by the game manager, within the step.
+     * @return False if the game closed its window during the step, true otherwise.
+     */
+    public boolean step() {
+        return step(deltaTime);
+    }
+
+    /**
+     * Advances the game by the given time step. A game that ends during the step is
+     * restarted in place by the game manager, within the step.
+     * @param frameTime The time step, in seconds.
+     * @return False if the game closed its window during the step, true otherwise.
+     */
+    public boolean step(float frameTime) {
+        gameManager.update(frameTime);
+        return !windowController.isClosed();
+    }
+
+    /**
+     * Initializes the game and runs it for up to the given number of frames, or until the
+     * game closes its window.
+     * @param frames The maximal number of frames to simulate.
+     * @return The throughput figures of the run.
+     */
+    public SimulationReport run(long frames) {
+        initialize();
+        return resume(frames);
+    }
+
+    /**
+     * Runs the already initialized game for up to the given number of frames, or until the
+     * game closes its window.
+     * @param frames The maximal number of frames to simulate.
+     * @return The throughput figures of the run.
+     */
+    public SimulationReport resume(long frames) {
+        long frame = 0;
+        long start = System.nanoTime();
+        while (frame < frames) {
+            frame++;
+            if (!step()) {
+                break;
+            }
+        }
+        long wallNanos = System.nanoTime() - start;
+        return new SimulationReport(frame, wallNanos, (double) frame * deltaTime,
+                getGamesPlayed());
+    }
+
+    /**
+     * Runs a headless simulation and prints its throughput and the time of each phase of
+     * its frames.
+     * @param args Command-line arguments specifying the number of bricks in a row, rows of
+     *             bricks, the number of frames to simulate and the seed. If not provided,
+     *             default values are used. "replay &lt;file&gt;" replays a recording made by
+     *             BrickerGameManager instead, "level &lt;file&gt; [frames]" plays a level
+     *             file, "save &lt;file&gt; &lt;bricks in row&gt; &lt;rows of bricks&gt;
+     *             &lt;frames&gt; [seed]" saves the state of a game after the given number of
+     *             frames, and "restore &lt;file&gt; [frames]" plays on from a saved state.
+     */
+    public static void main(String[] args) {
+        if (args.length == 2 && args[0].equals("replay")) {
+            InputReplay inputReplay = new InputReplay(args[1]);
+            System.out.println(inputReplay.replay());
+            return;
+        }
+        if (args.length >= 2 && args[0].equals("level")) {
+            runLevel(args[1], args.length >= 3 ? Long.parseLong(args[2]) : DEFAULT_FRAMES);
+            return;
+        }
+        if (args.length >= 5 && args[0].equals("save")) {
+            runSave(args[1], Integer.parseInt(args[2]), Integer.parseInt(args[3]),
+                    Long.parseLong(args[4]),
+                    args.length >= 6 ? Long.parseLong(args[5]) : DEFAULT_SEED);
+            return;
+        }
+        if (args.length >= 2 && args[0].equals("restore")) {
+            runRestore(args[1], args.length >= 3 ? Long.parseLong(args[2]) : DEFAULT_FRAMES);
+            return;
+        }
+        int bricksInRow = BRICKS_IN_ROW;
+        int rowsOfBricks = ROWS_OF_BRICKS;
+        long frames = DEFAULT_FRAMES;
+        long seed = DEFAULT_SEED;
+        if (args.length >= 2) {
+            bricksInRow = Integer.parseInt(args[0]);
+            rowsOfBricks = Integer.parseInt(args[1]);
+        }
+        if (args.length >= 3) {
+            frames = Long.parseLong(args[2]);
+        }
+        if (args.length >= 4) {
+            seed = Long.parseLong(args[3]);
+        }
+        HeadlessSimulation simulation = new HeadlessSimulation(
+                new Vector2(WINDOW_WIDTH, WINDOW_HEIGHT), rowsOfBricks, bricksInRow,
+                DEFAULT_DELTA_TIME, seed);
+        System.out.println(simulation.run(frames));
+        System.out.println(simulation.getGameManager().getAssets().report());
+        System.out.print(simulation.getGameManager().getStartupTimer());
+        System.out.print(simulation.getGameManager().getProfiler());
+    }
+
+    private static void runLevel(String path, long frames) {
+        long start = System.nanoTime();
+        Level level = Level.load(path);
+        HeadlessSimulation simulation = new HeadlessSimulation(
+                new Vector2(WINDOW_WIDTH, WINDOW_HEIGHT), level.getRows(), level.getCols(),
+                DEFAULT_DELTA_TIME, DEFAULT_SEED);
+        simulation.getGameManager().setLevel(level);
+        simulation.initialize();
+        System.out.printf("Loaded %d bricks in %.1f ms%n",
+                simulation.getGameManager().getBrickField().getAliveCount(),
+                (System.nanoTime() - start) / 1e6);
+        System.out.println(simulation.resume(frames));
+    }
+
+    private static void runSave(String path, int bricksInRow, int rowsOfBricks, long frames,
+                                long seed) {
+        HeadlessSimulation simulation = new HeadlessSimulation(
+                new Vector2(WINDOW_WIDTH, WINDOW_HEIGHT), rowsOfBricks, bricksInRow,
+                DEFAULT_DELTA_TIME, seed);
+        System.out.println(simulation.run(frames));
+        long start = System.nanoTime();
+        try (DataOutputStream output = new DataOutputStream(
+                new BufferedOutputStream(new FileOutputStream(path)))) {
+            simulation.getGameManager().save(output);
+            System.out.printf("Saved %d bytes in %.1f ms%n", output.size(),
+                    (System.nanoTime() - start) / 1e6);
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+    }
+
+    private static void runRestore(String path, long frames) {
+        try (DataInputStream input = new DataInputStream(
+                new BufferedInputStream(new FileInputStream(path)))) {
+            input.mark(SAVE_HEADER_BYTES);
+            if (input.readInt() != BrickerGameManager.SAVE_MAGIC) {
+                throw new IllegalArgumentException("Not a save state: " + path);
+            }
+            input.readShort();
+            int rowsOfBricks = input.readInt();
+            int bricksInRow = input.readInt();
+            input.reset();
+            HeadlessSimulation simulation = new HeadlessSimulation(
+                    new Vector2(WINDOW_WIDTH, WINDOW_HEIGHT), rowsOfBricks, bricksInRow,
+                    DEFAULT_DELTA_TIME, DEFAULT_SEED);
+            simulation.initialize();
+            long start = System.nanoTime();
+            simulation.getGameManager().restore(input);
+            System.out.printf("Restored %d bricks in %.1f ms%n",
+                    simulation.getGameManager().getBrickField().getAliveCount(),
+                    (System.nanoTime() - start) / 1e6);
+            System.out.println(simulation.resume(frames));
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+    }
+}
@@ -0,0 +1,37 @@
+/**
+ * Package bricker.simulation contains classes for running the game logic
+ * without a window, image or sound.
+ */
+package bricker.simulation;
+
+import bricker.assets.SilentSoundReader;
+import danogl.gui.Sound;
+import danogl.gui.SoundReader;
+import danogl.gui.WindowController;
+
+/**
+ * The HeadlessSoundReader class is a SoundReader that never touches the disk or the
+ * audio line. Every sound is read as null, which game objects treat as "silent", and
+ * the AssetRegistry decodes no sound for it.
+ * @author Shay Abbou & Shaked Hartal
+ */
+public class HeadlessSoundReader extends SoundReader implements SilentSoundReader {
+
+    /**
+     * Constructs a HeadlessSoundReader.
+     * @param windowController The (stub) window controller of the game.
+     */
+    public HeadlessSoundReader(WindowController windowController) {
+        super(windowController);
+    }
+
+    /**
+     * Reads no sound.
+     * @param soundFilePath The path of the sound, ignored.
+     * @return Always null.
+     */
+    @Override
+    public Sound readSound(String soundFilePath) {
+        return null;
+    }
+}
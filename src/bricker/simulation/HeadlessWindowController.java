@@ -0,0 +1,82 @@
+/**
+ * Package bricker.simulation contains classes for running the game logic
+ * without a window, image or sound.
+ */
+package bricker.simulation;
+
+import danogl.gui.WindowController;
+import danogl.util.Vector2;
+import java.lang.reflect.InvocationHandler;
+import java.lang.reflect.Method;
+import java.lang.reflect.Proxy;
+
+/**
+ * The HeadlessWindowController class stands in for the game window when the game runs
+ * without a display. It reports fixed window dimensions, answers the end of game dialog
+ * with a preset choice and records a close request so the simulation loop can stop
+ * between frames. Window methods the game never calls return neutral values.
+ * @author Shay Abbou & Shaked Hartal
+ */
+public class HeadlessWindowController implements InvocationHandler {
+    private final Vector2 windowDimensions;
+    private final boolean playAgain;
+    private final WindowController windowController;
+    private boolean closed;
+
+    /**
+     * Constructs a HeadlessWindowController with the specified parameters.
+     * @param windowDimensions The dimensions reported for the (absent) game window.
+     * @param playAgain        The answer given to every "Play again?" dialog.
+     */
+    public HeadlessWindowController(Vector2 windowDimensions, boolean playAgain) {
+        this.windowDimensions = windowDimensions;
+        this.playAgain = playAgain;
+        this.windowController = (WindowController) Proxy.newProxyInstance(
+                WindowController.class.getClassLoader(),
+                new Class<?>[]{WindowController.class}, this);
+    }
+
+    /**
+     * Gets the WindowController view of this stub, to be handed to the game manager.
+     * @return The stub window controller.
+     */
+    public WindowController asWindowController() {
+        return windowController;
+    }
+
+    /**
+     * Checks whether the game asked to close its window.
+     * @return True if the window was closed, false otherwise.
+     */
+    public boolean isClosed() {
+        return closed;
+    }
+
+    /**
+     * Dispatches a call made on the stub window controller.
+     * @param proxy  The stub window controller.
+     * @param method The invoked method.
+     * @param args   The arguments of the call.
+     * @return The value returned to the game.
+     */
+    @Override
+    public Object invoke(Object proxy, Method method, Object[] args) {
+        switch (method.getName()) {
+            case "getWindowDimensions":
+                return windowDimensions;
+            case "openYesNoDialog":
+                return playAgain;
+            case "closeWindow":
+                closed = true;
+                return null;
+            case "hashCode":
+                return System.identityHashCode(proxy);
+            case "equals":
+                return proxy == args[0];
+            case "toString":
+                return "HeadlessWindowController" + windowDimensions;
+            default:
+                return StubDefaults.defaultValue(method.getReturnType());
+        }
+    }
+}
@@ -0,0 +1,86 @@
+/**
+ * Package bricker.simulation contains classes for running the game logic
+ * without a window, image or sound.
+ */
+package bricker.simulation;
+
+import danogl.gui.UserInputListener;
+import danogl.util.Vector2;
+import java.io.BufferedOutputStream;
+import java.io.DataOutputStream;
+import java.io.FileOutputStream;
+import java.io.IOException;
+import java.io.UncheckedIOException;
+
+/**
+ * The InputRecorder class logs the keys held in every frame of a game, along with the frame
+ * time, so the game can be replayed at full speed by InputReplay. Together with the seed of
+ * the game, this is all it takes to reproduce a session exactly.
+ * @author Shay Abbou & Shaked Hartal
+ */
+public class InputRecorder {
+    private static final int FLUSH_INTERVAL = 60;
+    private final DataOutputStream output;
+    private int frames;
+    private boolean closed;
+
+    /**
+     * Creates a recording file and writes its header.
+     * @param path             The path of the recording file.
+     * @param seed             The seed of the recorded game.
+     * @param windowDimensions The dimensions of the game window.
+     * @param rowsOfBricks     The number of rows of bricks in the game.
+     * @param bricksInRow      The number of bricks in each row.
+     * @throws UncheckedIOException If the file cannot be written.
+     */
+    public InputRecorder(String path, long seed, Vector2 windowDimensions, int rowsOfBricks,
+                         int bricksInRow) {
+        try {
+            output = new DataOutputStream(new BufferedOutputStream(new FileOutputStream(path)));
+            output.writeInt(InputRecording.MAGIC);
+            output.writeShort(InputRecording.VERSION);
+            output.writeLong(seed);
+            output.writeFloat(windowDimensions.x());
+            output.writeFloat(windowDimensions.y());
+            output.writeInt(rowsOfBricks);
+            output.writeInt(bricksInRow);
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+    }
+
+    /**
+     * Records a frame. Called at the start of every frame, before the game reacts to input.
+     * @param deltaTime     The time of the frame.
+     * @param inputListener The input listener of the game.
+     */
+    public synchronized void recordFrame(float deltaTime, UserInputListener inputListener) {
+        if (closed) {
+            return;
+        }
+        try {
+            output.writeByte(InputRecording.keyBits(inputListener));
+            output.writeFloat(deltaTime);
+            if (++frames % FLUSH_INTERVAL == 0) {
+                output.flush();
+            }
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+    }
+
+    /**
+     * Flushes and closes the recording file. Later frames are not recorded.
+     */
+    public synchronized void close() {
+        if (closed) {
+            return;
+        }
+        closed = true;
+        try {
+            output.close();
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+    }
+}
@@ -0,0 +1,61 @@
+/**
+ * Package bricker.simulation contains classes for running the game logic
+ * without a window, image or sound.
+ */
+package bricker.simulation;
+
+import danogl.gui.UserInputListener;
+import java.awt.event.KeyEvent;
+
+/**
+ * The InputRecording class defines the file format shared by InputRecorder and InputReplay.
+ * A recording starts with a header holding the format version, the seed of the game, the
+ * window dimensions and the brick grid size. It is followed by one 5 bytes record per frame:
+ * the keys held during the frame as a bitmask, and the frame time as a float.
+ * @author Shay Abbou & Shaked Hartal
+ */
+final class InputRecording {
+    /** The first int of every recording. */
+    static final int MAGIC = 0x42524B52;
+    /** The version of the format. */
+    static final short VERSION = 1;
+    /** The bit of the left arrow key. */
+    static final int LEFT_KEY = 1;
+    /** The bit of the right arrow key. */
+    static final int RIGHT_KEY = 2;
+    /** The bit of the W key. */
+    static final int W_KEY = 4;
+
+    private InputRecording() {
+    }
+
+    /**
+     * Reads the keys the game reacts to as a bitmask.
+     * @param inputListener The input listener of the game.
+     * @return The bitmask of held keys.
+     */
+    static int keyBits(UserInputListener inputListener) {
+        int bits = 0;
+        if (inputListener.isKeyPressed(KeyEvent.VK_LEFT)) {
+            bits |= LEFT_KEY;
+        }
+        if (inputListener.isKeyPressed(KeyEvent.VK_RIGHT)) {
+            bits |= RIGHT_KEY;
+        }
+        if (inputListener.isKeyPressed(KeyEvent.VK_W)) {
+            bits |= W_KEY;
+        }
+        return bits;
+    }
+
+    /**
+     * Holds down the keys of a bitmask on a headless input listener, releasing the others.
+     * @param inputListener The headless input listener.
+     * @param bits          The bitmask of held keys.
+     */
+    static void applyKeyBits(HeadlessInputListener inputListener, int bits) {
+        inputListener.setKeyPressed(KeyEvent.VK_LEFT, (bits & LEFT_KEY) != 0);
+        inputListener.setKeyPressed(KeyEvent.VK_RIGHT, (bits & RIGHT_KEY) != 0);
+        inputListener.setKeyPressed(KeyEvent.VK_W, (bits & W_KEY) != 0);
+    }
+}
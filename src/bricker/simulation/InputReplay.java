@@ -0,0 +1,116 @@
+/**
+ * Package bricker.simulation contains classes for running the game logic
+ * without a window, image or sound.
+ */
+package bricker.simulation;
+
+import danogl.util.Vector2;
+import java.io.BufferedInputStream;
+import java.io.DataInputStream;
+import java.io.EOFException;
+import java.io.FileInputStream;
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.util.Arrays;
+
+/**
+ * The InputReplay class loads a recording made by InputRecorder and feeds it back through a
+ * headless simulation at uncapped speed. The simulation is seeded and sized as the recorded
+ * game was, and every frame gets the recorded keys and frame time, so a captured session
+ * plays out identically every time it is replayed.
+ * @author Shay Abbou & Shaked Hartal
+ */
+public class InputReplay {
+    private static final int INITIAL_FRAMES = 4096;
+    private final long seed;
+    private final Vector2 windowDimensions;
+    private final int rowsOfBricks, bricksInRow;
+    private byte[] keys = new byte[INITIAL_FRAMES];
+    private float[] deltaTimes = new float[INITIAL_FRAMES];
+    private int frames;
+
+    /**
+     * Loads a recording file.
+     * @param path The path of the recording file.
+     * @throws UncheckedIOException If the file cannot be read.
+     * @throws IllegalArgumentException If the file is not a recording of a known version.
+     */
+    public InputReplay(String path) {
+        try (DataInputStream input = new DataInputStream(
+                new BufferedInputStream(new FileInputStream(path)))) {
+            if (input.readInt() != InputRecording.MAGIC ||
+                    input.readShort() != InputRecording.VERSION) {
+                throw new IllegalArgumentException("Not an input recording: " + path);
+            }
+            seed = input.readLong();
+            windowDimensions = new Vector2(input.readFloat(), input.readFloat());
+            rowsOfBricks = input.readInt();
+            bricksInRow = input.readInt();
+            readFrames(input);
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+    }
+
+    /**
+     * Gets the number of recorded frames.
+     * @return The number of frames.
+     */
+    public int getFrames() {
+        return frames;
+    }
+
+    /**
+     * Creates a headless simulation seeded and sized as the recorded game.
+     * @return The simulation to replay the recording on.
+     */
+    public HeadlessSimulation createSimulation() {
+        return new HeadlessSimulation(windowDimensions, rowsOfBricks, bricksInRow,
+                HeadlessSimulation.DEFAULT_DELTA_TIME, seed);
+    }
+
+    /**
+     * Replays the whole recording on a fresh headless simulation, as fast as possible.
+     * @return The throughput figures of the replay.
+     */
+    public SimulationReport replay() {
+        HeadlessSimulation simulation = createSimulation();
+        HeadlessInputListener inputListener = simulation.getInputListener();
+        simulation.initialize();
+        double simulatedSeconds = 0;
+        int frame = 0;
+        long start = System.nanoTime();
+        while (frame < frames) {
+            InputRecording.applyKeyBits(inputListener, keys[frame]);
+            boolean open = simulation.step(deltaTimes[frame]);
+            simulatedSeconds += deltaTimes[frame];
+            frame++;
+            if (!open) {
+                break;
+            }
+        }
+        long wallNanos = System.nanoTime() - start;
+        return new SimulationReport(frame, wallNanos, simulatedSeconds,
+                simulation.getGamesPlayed());
+    }
+
+    private void readFrames(DataInputStream input) throws IOException {
+        while (true) {
+            byte frameKeys;
+            float deltaTime;
+            try {
+                frameKeys = input.readByte();
+                deltaTime = input.readFloat();
+            } catch (EOFException e) {
+                return;
+            }
+            if (frames == keys.length) {
+                keys = Arrays.copyOf(keys, frames * 2);
+                deltaTimes = Arrays.copyOf(deltaTimes, frames * 2);
+            }
+            keys[frames] = frameKeys;
+            deltaTimes[frames] = deltaTime;
+            frames++;
+        }
+    }
+}
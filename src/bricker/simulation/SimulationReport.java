@@ -0,0 +1,88 @@
+/**
+ * Package bricker.simulation contains classes for running the game logic
+ * without a window, image or sound.
+ */
+package bricker.simulation;
+
+/**
+ * The SimulationReport class holds the throughput figures of a finished headless run.
+ * @author Shay Abbou & Shaked Hartal
+ */
+public class SimulationReport {
+    private static final double NANOS_IN_SECOND = 1e9;
+    private final long frames;
+    private final long wallNanos;
+    private final double simulatedSeconds;
+    private final int gamesPlayed;
+
+    /**
+     * Constructs a SimulationReport with the specified parameters.
+     * @param frames           The number of frames that were simulated.
+     * @param wallNanos        The wall clock time the frames took, in nanoseconds.
+     * @param simulatedSeconds The game time the frames covered, in seconds.
+     * @param gamesPlayed      The number of games started during the run.
+     */
+    public SimulationReport(long frames, long wallNanos, double simulatedSeconds,
+                            int gamesPlayed) {
+        this.frames = frames;
+        this.wallNanos = wallNanos;
+        this.simulatedSeconds = simulatedSeconds;
+        this.gamesPlayed = gamesPlayed;
+    }
+
+    /**
+     * Gets the number of simulated frames.
+     * @return The number of frames.
+     */
+    public long getFrames() {
+        return frames;
+    }
+
+    /**
+     * Gets the wall clock time of the run.
+     * @return The wall clock time in seconds.
+     */
+    public double getWallSeconds() {
+        return wallNanos / NANOS_IN_SECOND;
+    }
+
+    /**
+     * Gets the game time covered by the run.
+     * @return The simulated time in seconds.
+     */
+    public double getSimulatedSeconds() {
+        return simulatedSeconds;
+    }
+
+    /**
+     * Gets the number of games started during the run.
+     * @return The number of games.
+     */
+    public int getGamesPlayed() {
+        return gamesPlayed;
+    }
+
+    /**
+     * Gets the simulation throughput.
+     * @return The number of frames simulated per wall clock second.
+     */
+    public double getFramesPerSecond() {
+        return frames / getWallSeconds();
+    }
+
+    /**
+     * Gets how much faster than real time the simulation ran.
+     * @return The number of simulated seconds per wall clock second.
+     */
+    public double getSimulatedSecondsPerWallSecond() {
+        return simulatedSeconds / getWallSeconds();
+    }
+
+    @Override
+    public String toString() {
+        return String.format("%d frames in %.3f s (%d games): %.0f frames/s, "
+                        + "%.1f simulated s per wall s",
+                frames, getWallSeconds(), gamesPlayed, getFramesPerSecond(),
+                getSimulatedSecondsPerWallSecond());
+    }
+}
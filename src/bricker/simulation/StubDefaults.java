@@ -0,0 +1,50 @@
+/**
+ * Package bricker.simulation contains classes for running the game logic
+ * without a window, image or sound.
+ */
+package bricker.simulation;
+
+/**
+ * The StubDefaults class supplies the neutral return values used by the headless stubs for
+ * window and input methods the game never relies on.
+ * @author Shay Abbou & Shaked Hartal
+ */
+class StubDefaults {
+
+    private StubDefaults() {
+    }
+
+    /**
+     * Returns the neutral value for the given return type: false for booleans, zero for
+     * numbers and null for any reference type.
+     * @param type The return type of the stubbed method.
+     * @return The neutral value for the type.
+     */
+    static Object defaultValue(Class<?> type) {
+        if (!type.isPrimitive() || type == void.class) {
+            return null;
+        }
+        if (type == boolean.class) {
+            return false;
+        }
+        if (type == char.class) {
+            return '\0';
+        }
+        if (type == float.class) {
+            return 0f;
+        }
+        if (type == double.class) {
+            return 0d;
+        }
+        if (type == long.class) {
+            return 0L;
+        }
+        if (type == int.class) {
+            return 0;
+        }
+        if (type == short.class) {
+            return (short) 0;
+        }
+        return (byte) 0;
+    }
+}
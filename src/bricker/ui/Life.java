@@ -3,6 +3,8 @@
  */
 package bricker.ui;
 
+import bricker.events.GameEventListener;
+import bricker.events.GameEvents;
 import danogl.GameObject;
 import danogl.collisions.GameObjectCollection;
 import danogl.collisions.Layer;
@@ -15,9 +17,10 @@ import java.awt.*;
  * The Life class manage all the aspects of the player lives in the game.
  * It includes logic for updating the display of remaining lives, adding and removing
  * hearts,and adjusting the text color based on the number of remaining lives.
+ * As a GameEventListener it adds a life on every LIFE_GAINED event it is subscribed to.
  * @author Shay Abbou & Shaked Hartal
  */
-public class Life {
+public class Life implements GameEventListener {
     private static final int IMAGE_SPACE = 5;
     private GameObjectCollection gameObjectCollection;
     private int remainingLives, maxLives;
@@ -69,6 +72,18 @@ public class Life {
         }
     }
 
+    /**
+     * Adds a life when a heart was caught.
+     * @param type    The type of the event.
+     * @param payload The payload of the event.
+     */
+    @Override
+    public void onEvent(int type, int payload) {
+        if (type == GameEvents.LIFE_GAINED) {
+            addLife();
+        }
+    }
+
     /**
      * Returns the current number of remaining lives.
      * @return An integer representing the remaining lives of the player.
@@ -0,0 +1,143 @@
+/**
+ * Package bricker.ui contains classes of UI objects.
+ */
+package bricker.ui;
+
+import bricker.gameobjects.BrickField;
+import bricker.gameobjects.CollisionCategories;
+import bricker.util.FrameProfiler;
+import danogl.GameObject;
+import danogl.collisions.GameObjectCollection;
+import danogl.collisions.Layer;
+import danogl.components.CoordinateSpace;
+import danogl.gui.UserInputListener;
+import danogl.gui.rendering.TextRenderable;
+import danogl.util.Vector2;
+import java.awt.Color;
+import java.awt.event.KeyEvent;
+
+/**
+ * The PerfHud class is a performance overlay, toggled by a key, that shows the p50, p99 and
+ * max duration of every phase of a frame as measured by a FrameProfiler, and the number of
+ * balls, pucks, hearts, bricks and game objects in the game.
+ * The text is refreshed a couple of times a second over the frames since the previous
+ * refresh, and the overlay is taken out of the game while hidden, so it costs a key check
+ * per frame unless shown.
+ * @author Shay Abbou & Shaked Hartal
+ */
+public class PerfHud extends GameObject {
+    /** The key that shows and hides the overlay. */
+    public static final int TOGGLE_KEY = KeyEvent.VK_F3;
+    private static final float REFRESH_INTERVAL = 0.5f;
+    private static final float LINE_WIDTH = 330;
+    private static final float LINE_HEIGHT = 14;
+    private static final int NUM_OF_LINES = FrameProfiler.NUM_OF_PHASES + 1;
+    private final GameObjectCollection gameObjectCollection;
+    private final UserInputListener inputListener;
+    private final FrameProfiler profiler;
+    private final BrickField brickField;
+    private final TextRenderable[] lines = new TextRenderable[NUM_OF_LINES];
+    private final GameObject[] lineObjects = new GameObject[NUM_OF_LINES];
+    private boolean visible;
+    private boolean toggleKeyPressed;
+    private float timeSinceRefresh;
+
+    /**
+     * Constructs a hidden PerfHud with the specified parameters.
+     * @param bottomLeftCorner     The position of the bottom left corner of the overlay,
+     *                             in window coordinates (pixels).
+     * @param gameObjectCollection The collection of GameObjects in the game.
+     * @param inputListener        The input listener, for the toggle key.
+     * @param profiler             The profiler of the frames of the game.
+     * @param brickField           The brick field of the game.
+     */
+    public PerfHud(Vector2 bottomLeftCorner, GameObjectCollection gameObjectCollection,
+                   UserInputListener inputListener, FrameProfiler profiler,
+                   BrickField brickField) {
+        super(bottomLeftCorner, Vector2.ZERO, null);
+        this.gameObjectCollection = gameObjectCollection;
+        this.inputListener = inputListener;
+        this.profiler = profiler;
+        this.brickField = brickField;
+        for (int i = 0; i < NUM_OF_LINES; i++) {
+            lines[i] = new TextRenderable("");
+            lines[i].setColor(Color.white);
+            lineObjects[i] = new GameObject(new Vector2(bottomLeftCorner.x(),
+                    bottomLeftCorner.y() - (NUM_OF_LINES - i) * LINE_HEIGHT),
+                    new Vector2(LINE_WIDTH, LINE_HEIGHT), lines[i]);
+            lineObjects[i].setCoordinateSpace(CoordinateSpace.CAMERA_COORDINATES);
+        }
+    }
+
+    /**
+     * Shows or hides the overlay when the toggle key is pressed, and refreshes its text
+     * while it is shown.
+     * @param deltaTime The time elapsed, in seconds, since the last frame.
+     */
+    @Override
+    public void update(float deltaTime) {
+        super.update(deltaTime);
+        boolean pressed = inputListener.isKeyPressed(TOGGLE_KEY);
+        if (pressed && !toggleKeyPressed) {
+            setVisible(!visible);
+        }
+        toggleKeyPressed = pressed;
+        if (!visible) {
+            return;
+        }
+        timeSinceRefresh += deltaTime;
+        if (timeSinceRefresh >= REFRESH_INTERVAL) {
+            refresh();
+        }
+    }
+
+    /**
+     * Returns whether the overlay is shown.
+     * @return True if the overlay is shown, false otherwise.
+     */
+    public boolean isVisible() {
+        return visible;
+    }
+
+    private void setVisible(boolean visible) {
+        this.visible = visible;
+        for (GameObject lineObject : lineObjects) {
+            if (visible) {
+                gameObjectCollection.addGameObject(lineObject, Layer.UI);
+            } else {
+                gameObjectCollection.removeGameObject(lineObject, Layer.UI);
+            }
+        }
+        if (visible) {
+            refresh();
+        }
+    }
+
+    private void refresh() {
+        for (int phase = 0; phase < FrameProfiler.NUM_OF_PHASES; phase++) {
+            lines[phase].setString(profiler.describe(phase));
+        }
+        int balls = 0, pucks = 0, hearts = 0, gameObjects = 0;
+        for (GameObject gameObject : gameObjectCollection) {
+            gameObjects++;
+            switch (CollisionCategories.of(gameObject)) {
+                case CollisionCategories.BALL:
+                    balls++;
+                    break;
+                case CollisionCategories.PUCK:
+                    pucks++;
+                    break;
+                case CollisionCategories.HEART:
+                    hearts++;
+                    break;
+                default:
+                    break;
+            }
+        }
+        lines[NUM_OF_LINES - 1].setString(String.format(
+                "balls %d  pucks %d  hearts %d  bricks %d  objects %d",
+                balls, pucks, hearts, brickField.getAliveCount(), gameObjects));
+        profiler.reset();
+        timeSinceRefresh = 0;
+    }
+}
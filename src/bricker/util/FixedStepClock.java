@@ -0,0 +1,88 @@
+/**
+ * Package bricker.util contains general purpose classes shared by the game.
+ */
+package bricker.util;
+
+/**
+ * The FixedStepClock class turns the variable frame times of a window loop into a whole
+ * number of fixed simulation steps. Frame time accumulates until it covers a step, and the
+ * part of a step left over tells how far the rendered frame is between the last two
+ * simulation states. A frame runs at most a fixed number of steps, and time beyond them is
+ * dropped, so a slow frame cannot cause ever slower frames.
+ * @author Shay Abbou & Shaked Hartal
+ */
+public class FixedStepClock {
+    private final int maxStepsPerFrame;
+    private float stepSeconds;
+    private float accumulator;
+    private double droppedSeconds;
+
+    /**
+     * Constructs a FixedStepClock with the specified parameters.
+     * @param stepSeconds      The length of a simulation step, in seconds.
+     * @param maxStepsPerFrame The largest number of steps a single frame runs.
+     */
+    public FixedStepClock(float stepSeconds, int maxStepsPerFrame) {
+        this.stepSeconds = stepSeconds;
+        this.maxStepsPerFrame = maxStepsPerFrame;
+    }
+
+    /**
+     * Adds the time of a frame, and takes the steps it completes.
+     * @param deltaTime The time of the frame, in seconds.
+     * @return The number of simulation steps to run this frame.
+     */
+    public int advance(float deltaTime) {
+        accumulator += deltaTime;
+        int steps = (int) (accumulator / stepSeconds);
+        if (steps > maxStepsPerFrame) {
+            droppedSeconds += (steps - maxStepsPerFrame) * (double) stepSeconds;
+            steps = maxStepsPerFrame;
+            // Whole steps beyond the cap are dropped, the part of a step is kept for rendering
+            accumulator %= stepSeconds;
+            return steps;
+        }
+        accumulator -= steps * stepSeconds;
+        return steps;
+    }
+
+    /**
+     * Gets how far the current frame is between the last two simulation steps.
+     * @return The part of a step accumulated since the last step, between 0 and 1.
+     */
+    public float getAlpha() {
+        return Math.min(1, accumulator / stepSeconds);
+    }
+
+    /**
+     * Gets the length of a simulation step.
+     * @return The length of a step, in seconds.
+     */
+    public float getStepSeconds() {
+        return stepSeconds;
+    }
+
+    /**
+     * Sets the length of a simulation step, and forgets the accumulated time.
+     * @param stepSeconds The length of a step, in seconds.
+     */
+    public void setStepSeconds(float stepSeconds) {
+        this.stepSeconds = stepSeconds;
+        accumulator = 0;
+    }
+
+    /**
+     * Gets the simulation time dropped by frames that needed more steps than allowed.
+     * @return The dropped time, in seconds.
+     */
+    public double getDroppedSeconds() {
+        return droppedSeconds;
+    }
+
+    /**
+     * Forgets the accumulated time, for a new game.
+     */
+    public void reset() {
+        accumulator = 0;
+    }
+}
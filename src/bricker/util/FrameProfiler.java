@@ -0,0 +1,96 @@
+/**
+ * Package bricker.util contains general purpose classes shared by the game.
+ */
+package bricker.util;
+
+/**
+ * The FrameProfiler class keeps a latency histogram for each phase of a frame: the whole
+ * update, the collisions between balls and bricks within it, the collision strategies run
+ * by those collisions, and the rendering. Phases are timed with System.nanoTime, and
+ * recording a phase never allocates.
+ * @author Shay Abbou & Shaked Hartal
+ */
+public class FrameProfiler {
+    /** The phase of the whole update of a frame. */
+    public static final int UPDATE = 0;
+    /** The phase of the collisions between balls and bricks, part of the update. */
+    public static final int COLLISION = 1;
+    /** The phase of the collision strategies of hit bricks, part of the collisions. */
+    public static final int STRATEGY = 2;
+    /** The phase of the rendering of a frame. */
+    public static final int RENDER = 3;
+    /** The number of phases. */
+    public static final int NUM_OF_PHASES = 4;
+    private static final String[] PHASE_NAMES = {"update", "collision", "strategy", "render"};
+    private static final double NANOS_PER_MICRO = 1000.0;
+    private final LatencyHistogram[] histograms = new LatencyHistogram[NUM_OF_PHASES];
+
+    /**
+     * Constructs a FrameProfiler with an empty histogram for every phase.
+     */
+    public FrameProfiler() {
+        for (int phase = 0; phase < NUM_OF_PHASES; phase++) {
+            histograms[phase] = new LatencyHistogram();
+        }
+    }
+
+    /**
+     * Records a run of a phase that started at the given time and ended now.
+     * @param phase     The phase.
+     * @param startTime The System.nanoTime at which the phase started.
+     */
+    public void record(int phase, long startTime) {
+        histograms[phase].record(System.nanoTime() - startTime);
+    }
+
+    /**
+     * Gets the histogram of a phase.
+     * @param phase The phase.
+     * @return The histogram of the durations of the phase.
+     */
+    public LatencyHistogram getHistogram(int phase) {
+        return histograms[phase];
+    }
+
+    /**
+     * Gets the name of a phase.
+     * @param phase The phase.
+     * @return The name of the phase.
+     */
+    public static String phaseName(int phase) {
+        return PHASE_NAMES[phase];
+    }
+
+    /**
+     * Forgets every recorded duration of every phase.
+     */
+    public void reset() {
+        for (LatencyHistogram histogram : histograms) {
+            histogram.reset();
+        }
+    }
+
+    /**
+     * Describes the p50, p99 and max duration of a phase, in microseconds.
+     * @param phase The phase.
+     * @return A single line description of the phase.
+     */
+    public String describe(int phase) {
+        LatencyHistogram histogram = histograms[phase];
+        return String.format("%-9s p50 %8.1fus  p99 %8.1fus  max %8.1fus  (%d)",
+                PHASE_NAMES[phase],
+                histogram.getValueAtPercentile(50) / NANOS_PER_MICRO,
+                histogram.getValueAtPercentile(99) / NANOS_PER_MICRO,
+                histogram.getMax() / NANOS_PER_MICRO,
+                histogram.getCount());
+    }
+
+    @Override
+    public String toString() {
+        StringBuilder description = new StringBuilder();
+        for (int phase = 0; phase < NUM_OF_PHASES; phase++) {
+            description.append(describe(phase)).append(System.lineSeparator());
+        }
+        return description.toString();
+    }
+}
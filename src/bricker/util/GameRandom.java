@@ -0,0 +1,68 @@
+/**
+ * Package bricker.util contains general purpose classes shared by the game.
+ */
+package bricker.util;
+
+import java.util.Random;
+
+/**
+ * The GameRandom class is the single seedable source of randomness of a game. Every random
+ * choice of the game (strategies, ball and puck directions) is drawn from it, so two games
+ * with the same seed and the same input behave identically. Its whole state is a single
+ * long, which can be read and restored.
+ * @author Shay Abbou & Shaked Hartal
+ */
+public class GameRandom extends Random {
+    private static final long serialVersionUID = 1L;
+    private static final long GOLDEN_GAMMA = 0x9E3779B97F4A7C15L;
+    // Set by setSeed, which the Random constructor calls, so it must not have an initializer
+    private long state;
+
+    /**
+     * Constructs a GameRandom with the given seed.
+     * @param seed The seed of the game.
+     */
+    public GameRandom(long seed) {
+        super(seed);
+    }
+
+    /**
+     * Restarts the sequence of random values from the given seed.
+     * @param seed The seed.
+     */
+    @Override
+    public synchronized void setSeed(long seed) {
+        state = seed;
+    }
+
+    /**
+     * Gets the current state of the generator.
+     * @return The state, to be passed to setState.
+     */
+    public long getState() {
+        return state;
+    }
+
+    /**
+     * Restores a state previously returned by getState.
+     * @param state The state.
+     */
+    public void setState(long state) {
+        this.state = state;
+    }
+
+    /**
+     * Generates the next random bits, with the SplitMix64 mixing function.
+     * @param bits The number of random bits.
+     * @return An int holding the random bits in its low bits.
+     */
+    @Override
+    protected int next(int bits) {
+        state += GOLDEN_GAMMA;
+        long z = state;
+        z = (z ^ (z >>> 30)) * 0xBF58476D1CE4E5B9L;
+        z = (z ^ (z >>> 27)) * 0x94D049BB133111EBL;
+        z ^= z >>> 31;
+        return (int) (z >>> (Long.SIZE - bits));
+    }
+}
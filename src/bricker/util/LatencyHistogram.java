@@ -0,0 +1,111 @@
+/**
+ * Package bricker.util contains general purpose classes shared by the game.
+ */
+package bricker.util;
+
+import java.util.Arrays;
+
+/**
+ * The LatencyHistogram class counts durations, in nanoseconds, in logarithmic buckets.
+ * Every power of two is split into eight equal buckets, so a reported percentile is at most
+ * 12.5% above the true value, from a nanosecond up to hours, in a few kilobytes.
+ * Recording a value is a few arithmetic operations and an array increment, and never
+ * allocates, so it can be done several times every frame.
+ * @author Shay Abbou & Shaked Hartal
+ */
+public class LatencyHistogram {
+    private static final int SUB_BUCKET_BITS = 3;
+    private static final int SUB_BUCKETS = 1 << SUB_BUCKET_BITS;
+    private static final int NUM_OF_BUCKETS = (Long.SIZE - SUB_BUCKET_BITS) * SUB_BUCKETS;
+    private final long[] counts = new long[NUM_OF_BUCKETS];
+    private long count;
+    private long max;
+    private long total;
+
+    /**
+     * Records a duration.
+     * @param nanos The duration, in nanoseconds. Negative durations are counted as zero.
+     */
+    public void record(long nanos) {
+        long value = Math.max(0, nanos);
+        counts[bucketOf(value)]++;
+        count++;
+        total += value;
+        if (value > max) {
+            max = value;
+        }
+    }
+
+    /**
+     * Gets the number of recorded durations.
+     * @return The number of durations since the last reset.
+     */
+    public long getCount() {
+        return count;
+    }
+
+    /**
+     * Gets the longest recorded duration.
+     * @return The longest duration, in nanoseconds, or 0 if none was recorded.
+     */
+    public long getMax() {
+        return max;
+    }
+
+    /**
+     * Gets the mean of the recorded durations.
+     * @return The mean duration, in nanoseconds, or 0 if none was recorded.
+     */
+    public double getMean() {
+        return count == 0 ? 0 : (double) total / count;
+    }
+
+    /**
+     * Gets the duration that the given percentage of the recorded durations do not exceed.
+     * @param percentile The percentage, between 0 and 100.
+     * @return The upper bound of the bucket of the percentile, capped by the longest
+     *         duration, in nanoseconds, or 0 if none was recorded.
+     */
+    public long getValueAtPercentile(double percentile) {
+        if (count == 0) {
+            return 0;
+        }
+        long rank = Math.max(1, (long) Math.ceil(percentile / 100 * count));
+        long seen = 0;
+        for (int bucket = 0; bucket < NUM_OF_BUCKETS; bucket++) {
+            seen += counts[bucket];
+            if (seen >= rank) {
+                return Math.min(max, upperBoundOf(bucket));
+            }
+        }
+        return max;
+    }
+
+    /**
+     * Forgets every recorded duration.
+     */
+    public void reset() {
+        Arrays.fill(counts, 0);
+        count = 0;
+        max = 0;
+        total = 0;
+    }
+
+    private static int bucketOf(long value) {
+        int exponent = Long.SIZE - 1 - Long.numberOfLeadingZeros(value | 1);
+        if (exponent < SUB_BUCKET_BITS) {
+            return (int) value;
+        }
+        int shift = exponent - SUB_BUCKET_BITS;
+        return ((shift + 1) << SUB_BUCKET_BITS) + (int) ((value >>> shift) & (SUB_BUCKETS - 1));
+    }
+
+    private static long upperBoundOf(int bucket) {
+        if (bucket < SUB_BUCKETS) {
+            return bucket;
+        }
+        int shift = (bucket >>> SUB_BUCKET_BITS) - 1;
+        long lowerBound = (long) (SUB_BUCKETS + (bucket & (SUB_BUCKETS - 1))) << shift;
+        return lowerBound + (1L << shift) - 1;
+    }
+}
@@ -0,0 +1,62 @@
+/**
+ * Package bricker.util contains general purpose classes shared by the game.
+ */
+package bricker.util;
+
+import java.util.LinkedHashMap;
+import java.util.Map;
+
+/**
+ * The StartupTimer class measures the time from its construction to each milestone of the
+ * startup of the game, up to the first frame. Only the first time a milestone is reached
+ * counts, so the milestones of later games do not change the report.
+ * @author Shay Abbou & Shaked Hartal
+ */
+public class StartupTimer {
+    private static final double NANOS_IN_MILLI = 1e6;
+    private final long startTime;
+    private final Map<String, Long> milestones = new LinkedHashMap<>();
+
+    /**
+     * Constructs a StartupTimer, starting the clock.
+     */
+    public StartupTimer() {
+        startTime = System.nanoTime();
+    }
+
+    /**
+     * Records that a milestone was reached now, unless it was reached before.
+     * @param milestone The name of the milestone.
+     * @return True if the milestone was reached for the first time, false otherwise.
+     */
+    public boolean mark(String milestone) {
+        return milestones.putIfAbsent(milestone, System.nanoTime() - startTime) == null;
+    }
+
+    /**
+     * Gets the time from the start to a milestone.
+     * @param milestone The name of the milestone.
+     * @return The time, in nanoseconds, or -1 if the milestone was not reached.
+     */
+    public long getNanos(String milestone) {
+        return milestones.getOrDefault(milestone, -1L);
+    }
+
+    /**
+     * Returns the time from the start to every milestone reached, and the time since the
+     * previous one, one line per milestone in the order they were reached.
+     * @return The startup report.
+     */
+    @Override
+    public String toString() {
+        StringBuilder report = new StringBuilder();
+        long previous = 0;
+        for (Map.Entry<String, Long> milestone : milestones.entrySet()) {
+            report.append(String.format("%-20s %8.2f ms  (+%.2f ms)%n", milestone.getKey(),
+                    milestone.getValue() / NANOS_IN_MILLI,
+                    (milestone.getValue() - previous) / NANOS_IN_MILLI));
+            previous = milestone.getValue();
+        }
+        return report.toString();
+    }
+}